@@ -0,0 +1,26 @@
+package hexlet.code.benchmark;
+
+import hexlet.code.AppApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class BenchmarkContext {
+
+    private static final List<String> DEFAULT_ARGS = List.of(
+            "--server.port=0",
+            "--spring.jpa.show-sql=false",
+            "--logging.level.root=WARN",
+            "--sentry.dsn=");
+
+    private BenchmarkContext() {
+    }
+
+    public static ConfigurableApplicationContext start(String... args) {
+        var allArgs = new ArrayList<>(DEFAULT_ARGS);
+        allArgs.addAll(List.of(args));
+        return new SpringApplicationBuilder(AppApplication.class).run(allArgs.toArray(String[]::new));
+    }
+}
@@ -0,0 +1,117 @@
+package hexlet.code.benchmark;
+
+import hexlet.code.dto.label.LabelDTO;
+import hexlet.code.dto.task.TaskDTO;
+import hexlet.code.dto.user.UserDTO;
+import hexlet.code.mapper.LabelMapper;
+import hexlet.code.mapper.TaskMapper;
+import hexlet.code.mapper.UserMapper;
+import hexlet.code.model.Label;
+import hexlet.code.model.Task;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MappingBenchmark {
+
+    private static final int LABELS_PER_TASK = 3;
+
+    @Param({"1", "100", "1000"})
+    private int size;
+
+    private ConfigurableApplicationContext context;
+    private TaskMapper taskMapper;
+    private UserMapper userMapper;
+    private LabelMapper labelMapper;
+
+    private List<Task> tasks;
+    private List<User> users;
+    private List<Label> labels;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        taskMapper = context.getBean(TaskMapper.class);
+        userMapper = context.getBean(UserMapper.class);
+        labelMapper = context.getBean(LabelMapper.class);
+
+        var taskStatus = new TaskStatus();
+        taskStatus.setId(1L);
+        taskStatus.setName("Draft");
+        taskStatus.setSlug("draft");
+
+        labels = new ArrayList<>(size);
+        users = new ArrayList<>(size);
+        tasks = new ArrayList<>(size);
+        for (var i = 0; i < size; i++) {
+            var label = new Label();
+            label.setId((long) i);
+            label.setName("label-" + i);
+            label.setCreatedAt(LocalDate.now());
+            labels.add(label);
+
+            var user = new User();
+            user.setId((long) i);
+            user.setFirstName("First" + i);
+            user.setLastName("Last" + i);
+            user.setEmail("user" + i + "@example.com");
+            user.setCreatedAt(LocalDate.now());
+            users.add(user);
+        }
+        for (var i = 0; i < size; i++) {
+            var task = new Task();
+            task.setId((long) i);
+            task.setName("Task " + i);
+            task.setDescription("Description of the task number " + i);
+            task.setTaskIndex(i);
+            task.setTaskStatus(taskStatus);
+            task.setAssignee(users.get(i));
+            task.setCreatedAt(LocalDate.now());
+            var taskLabels = new HashSet<Label>();
+            for (var j = 0; j < LABELS_PER_TASK; j++) {
+                taskLabels.add(labels.get((i + j) % size));
+            }
+            task.setLabels(taskLabels);
+            tasks.add(task);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<TaskDTO> mapTasks() {
+        return tasks.stream().map(taskMapper::map).toList();
+    }
+
+    @Benchmark
+    public List<UserDTO> mapUsers() {
+        return users.stream().map(userMapper::map).toList();
+    }
+
+    @Benchmark
+    public List<LabelDTO> mapLabels() {
+        return labels.stream().map(labelMapper::map).toList();
+    }
+}
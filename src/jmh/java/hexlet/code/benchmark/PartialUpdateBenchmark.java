@@ -0,0 +1,50 @@
+package hexlet.code.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import hexlet.code.dto.task.TaskUpdateDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PartialUpdateBenchmark {
+
+    private static final String PARTIAL_UPDATE = """
+            {"title": "Renamed task", "taskLabelIds": [1, 2, 3], "assignee_id": null}
+            """;
+
+    private ConfigurableApplicationContext context;
+    private ObjectReader taskUpdateReader;
+    private byte[] partialUpdate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        taskUpdateReader = context.getBean(ObjectMapper.class).readerFor(TaskUpdateDTO.class);
+        partialUpdate = PARTIAL_UPDATE.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TaskUpdateDTO deserializePartialUpdate() throws IOException {
+        return taskUpdateReader.readValue(partialUpdate);
+    }
+}
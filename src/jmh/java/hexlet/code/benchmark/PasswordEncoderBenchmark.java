@@ -0,0 +1,69 @@
+package hexlet.code.benchmark;
+
+import hexlet.code.component.PasswordHashingProperties;
+import hexlet.code.config.EncodersConfig;
+import hexlet.code.util.BoundedPasswordEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(1)
+public class PasswordEncoderBenchmark {
+
+    private static final String PASSWORD = "qwerty-login-storm";
+
+    @Param({"bcrypt:10", "bcrypt:12", "argon2:16384", "argon2:65536", "pbkdf2:310000", "pbkdf2:600000"})
+    private String configuration;
+
+    private PasswordEncoder encoder;
+
+    private BoundedPasswordEncoder boundedEncoder;
+
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        var parts = configuration.split(":");
+        var cost = Integer.parseInt(parts[1]);
+        var properties = new PasswordHashingProperties();
+        properties.setEncoder(parts[0]);
+        switch (parts[0]) {
+            case "bcrypt" -> properties.setBcryptStrength(cost);
+            case "argon2" -> properties.setArgon2Memory(cost);
+            case "pbkdf2" -> properties.setPbkdf2Iterations(cost);
+            default -> throw new IllegalArgumentException("Unknown encoder " + parts[0]);
+        }
+        encoder = EncodersConfig.delegatingPasswordEncoder(properties);
+        boundedEncoder = EncodersConfig.boundedPasswordEncoder(properties);
+        encodedPassword = encoder.encode(PASSWORD);
+    }
+
+    @TearDown
+    public void tearDown() {
+        boundedEncoder.close();
+    }
+
+    @Benchmark
+    public boolean login() {
+        return encoder.matches(PASSWORD, encodedPassword);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public boolean boundedLogin() {
+        return boundedEncoder.matches(PASSWORD, encodedPassword);
+    }
+}
@@ -0,0 +1,69 @@
+package hexlet.code.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import hexlet.code.dto.task.TaskDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializationBenchmark {
+
+    @Param({"1", "100", "1000"})
+    private int size;
+
+    private ConfigurableApplicationContext context;
+    private ObjectWriter taskListWriter;
+
+    private List<TaskDTO> tasks;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        var objectMapper = context.getBean(ObjectMapper.class);
+        taskListWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, TaskDTO.class));
+
+        tasks = new ArrayList<>(size);
+        for (var i = 0; i < size; i++) {
+            var task = new TaskDTO();
+            task.setId((long) i);
+            task.setIndex(i);
+            task.setTitle("Task " + i);
+            task.setContent("Description of the task number " + i);
+            task.setStatus("draft");
+            task.setAssigneeId((long) i);
+            task.setCreatedAt(LocalDate.now());
+            task.setTaskLabelIds(Set.of(1L, 2L, 3L));
+            tasks.add(task);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] serializeTasks() throws IOException {
+        return taskListWriter.writeValueAsBytes(tasks);
+    }
+}
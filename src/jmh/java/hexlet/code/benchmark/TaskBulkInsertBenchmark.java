@@ -0,0 +1,149 @@
+package hexlet.code.benchmark;
+
+import hexlet.code.dto.task.TaskBatchResultDTO;
+import hexlet.code.dto.task.TaskCreateDTO;
+import hexlet.code.model.Label;
+import hexlet.code.model.Task;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.repository.LabelRepository;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.TaskStatusRepository;
+import hexlet.code.service.TaskBatchService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TaskBulkInsertBenchmark {
+
+    private static final int ROWS = 1_000;
+
+    @Param({"jdbc:h2:mem:bench", "jdbc:h2:mem:bench;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE"})
+    private String url;
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private TaskBatchService taskBatchService;
+    private TaskRepository taskRepository;
+    private EntityManager entityManager;
+    private TransactionTemplate transaction;
+    private List<TaskCreateDTO> tasksData;
+    private Long taskStatusId;
+    private Set<Long> labelIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start(
+                "--spring.datasource.url=" + (url.startsWith("jdbc:h2:") ? url + ";DB_CLOSE_DELAY=-1" : url),
+                "--spring.datasource.driver-class-name=",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize);
+        taskBatchService = context.getBean(TaskBatchService.class);
+        taskRepository = context.getBean(TaskRepository.class);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(
+                context.getBean(EntityManagerFactory.class));
+        transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        taskStatusId = context.getBean(TaskStatusRepository.class).findBySlug("draft").orElseThrow().getId();
+
+        labelIds = new HashSet<>();
+        context.getBean(LabelRepository.class).findAll()
+                .forEach(label -> labelIds.add(label.getId()));
+
+        tasksData = new ArrayList<>(ROWS);
+        for (var i = 0; i < ROWS; i++) {
+            var taskData = new TaskCreateDTO();
+            taskData.setTitle("Task " + i);
+            taskData.setContent("Imported task number " + i);
+            taskData.setStatus("draft");
+            taskData.setTaskLabelIds(labelIds);
+            tasksData.add(taskData);
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void cleanUp() {
+        taskRepository.deleteAllInBatch();
+        transaction.executeWithoutResult(status -> {
+            entityManager.createNativeQuery("DELETE FROM identity_task_labels").executeUpdate();
+            entityManager.createNativeQuery("DELETE FROM identity_tasks").executeUpdate();
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<TaskBatchResultDTO> createAll() {
+        return taskBatchService.createAll(tasksData);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public int insertSequence() {
+        return insert(i -> {
+            var task = new Task();
+            task.setName("Task " + i);
+            task.setDescription("Imported task number " + i);
+            task.setTaskStatus(entityManager.getReference(TaskStatus.class, taskStatusId));
+            labelIds.forEach(labelId -> task.addLabel(entityManager.getReference(Label.class, labelId)));
+            return task;
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public int insertIdentity() {
+        return insert(i -> {
+            var task = new IdentityTask();
+            task.setName("Task " + i);
+            task.setDescription("Imported task number " + i);
+            task.setCreatedAt(LocalDate.now());
+            task.setTaskStatus(entityManager.getReference(TaskStatus.class, taskStatusId));
+            labelIds.forEach(labelId -> task.getLabels().add(entityManager.getReference(Label.class, labelId)));
+            return task;
+        });
+    }
+
+    private int insert(IntFunction<Object> newTask) {
+        for (var from = 0; from < ROWS; from += batchSize) {
+            var chunkStart = from;
+            transaction.executeWithoutResult(status -> {
+                for (var i = chunkStart; i < Math.min(chunkStart + batchSize, ROWS); i++) {
+                    entityManager.persist(newTask.apply(i));
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+        return ROWS;
+    }
+}
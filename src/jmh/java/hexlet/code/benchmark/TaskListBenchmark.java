@@ -0,0 +1,91 @@
+package hexlet.code.benchmark;
+
+import hexlet.code.dto.task.TaskCreateDTO;
+import hexlet.code.dto.task.TaskDTO;
+import hexlet.code.dto.task.TaskParamsDTO;
+import hexlet.code.mapper.TaskMapper;
+import hexlet.code.repository.LabelRepository;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.service.TaskBatchService;
+import hexlet.code.service.TaskService;
+import hexlet.code.specification.TaskSpecification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskListBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int size;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private TaskRepository taskRepository;
+    private TaskSpecification taskSpecification;
+    private TaskMapper taskMapper;
+    private TransactionTemplate readOnlyTransaction;
+    private TaskParamsDTO params;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("--spring.datasource.url=jdbc:h2:mem:list;DB_CLOSE_DELAY=-1");
+        taskService = context.getBean(TaskService.class);
+        taskRepository = context.getBean(TaskRepository.class);
+        taskSpecification = context.getBean(TaskSpecification.class);
+        taskMapper = context.getBean(TaskMapper.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        var labelIds = new HashSet<Long>();
+        context.getBean(LabelRepository.class).findAll()
+                .forEach(label -> labelIds.add(label.getId()));
+
+        var tasksData = new ArrayList<TaskCreateDTO>(size);
+        for (var i = 0; i < size; i++) {
+            var taskData = new TaskCreateDTO();
+            taskData.setTitle("Task " + i);
+            taskData.setContent("Listed task number " + i);
+            taskData.setStatus("draft");
+            taskData.setTaskLabelIds(labelIds);
+            tasksData.add(taskData);
+        }
+        context.getBean(TaskBatchService.class).createAll(tasksData);
+
+        params = new TaskParamsDTO();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<TaskDTO> entities() {
+        return readOnlyTransaction.execute(status -> taskRepository.findAll(taskSpecification.build(params)).stream()
+                .map(taskMapper::map)
+                .toList());
+    }
+
+    @Benchmark
+    public List<TaskDTO> projections() {
+        return taskService.getAll(params).getBody();
+    }
+}
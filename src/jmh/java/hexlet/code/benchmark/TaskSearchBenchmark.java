@@ -0,0 +1,75 @@
+package hexlet.code.benchmark;
+
+import hexlet.code.dto.task.TaskParamsDTO;
+import hexlet.code.dto.task.TaskRowDTO;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.specification.TaskSpecification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TaskSearchBenchmark {
+
+    private static final int ROWS = 1_000_000;
+
+    @Param({"like", "trigram"})
+    private String engine;
+
+    @Param({"f00d", "beef42"})
+    private String term;
+
+    private ConfigurableApplicationContext context;
+    private TaskRepository taskRepository;
+    private TaskSpecification taskSpecification;
+    private TaskParamsDTO params;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var url = System.getProperty("bench.postgres.url", "jdbc:postgresql://localhost:5432/bench");
+        context = BenchmarkContext.start(
+                "--spring.datasource.url=" + url,
+                "--spring.datasource.driver-class-name=org.postgresql.Driver",
+                "--spring.datasource.username=" + System.getProperty("bench.postgres.username", "postgres"),
+                "--spring.datasource.password=" + System.getProperty("bench.postgres.password", "postgres"),
+                "--task.search.engine=" + engine);
+        taskRepository = context.getBean(TaskRepository.class);
+        taskSpecification = context.getBean(TaskSpecification.class);
+
+        var jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("""
+                INSERT INTO tasks (id, name, description, task_index, task_status_slug, created_at)
+                SELECT nextval('tasks_seq'), 'Task ' || md5(g::text), md5(g::text || 'description'), g,
+                       (SELECT id FROM task_statuses WHERE slug = 'draft'), current_date
+                FROM generate_series(1, ?) g
+                """, ROWS);
+        jdbcTemplate.execute("ANALYZE tasks");
+
+        params = new TaskParamsDTO();
+        params.setTitleCont(term);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<TaskRowDTO> search() {
+        return taskRepository.findRows(taskSpecification.build(params), taskSpecification.order(params));
+    }
+}
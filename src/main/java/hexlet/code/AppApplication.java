@@ -3,13 +3,17 @@ package hexlet.code;
 import net.datafaker.Faker;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import java.util.Locale;
 
 @SpringBootApplication
 @EnableJpaAuditing
+@EnableCaching
+@EnableScheduling
 public class AppApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,25 @@
+package hexlet.code.component;
+
+import hexlet.code.dto.DomainEventDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "outbox.sinks.application-events.enabled", havingValue = "true", matchIfMissing = true)
+public class ApplicationEventOutboxSink implements OutboxSink {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public String getName() {
+        return "application-events";
+    }
+
+    @Override
+    public void deliver(DomainEventDTO event) {
+        eventPublisher.publishEvent(event);
+    }
+}
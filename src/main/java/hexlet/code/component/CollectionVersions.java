@@ -0,0 +1,121 @@
+package hexlet.code.component;
+
+import hexlet.code.model.CollectionVersion;
+import hexlet.code.repository.CollectionVersionRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+@Component
+public class CollectionVersions {
+
+    public static final String TASKS = "tasks";
+    public static final String LABELS = "labels";
+    public static final String TASK_STATUSES = "taskStatuses";
+    public static final String USERS = "users";
+
+    private static final List<String> NAMES = List.of(TASKS, LABELS, TASK_STATUSES, USERS);
+
+    @Autowired
+    private CollectionVersionRepository collectionVersionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final Map<String, Long> versions = new ConcurrentHashMap<>();
+
+    private TransactionTemplate newTransaction;
+
+    @PostConstruct
+    public void init() {
+        newTransaction = new TransactionTemplate(transactionManager);
+        newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        for (var name : NAMES) {
+            if (!collectionVersionRepository.existsById(name)) {
+                collectionVersionRepository.save(new CollectionVersion(name, 0L));
+            }
+        }
+        refresh();
+    }
+
+    public void bump(String name) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            pendingBumps().add(name);
+        } else {
+            increment(name);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${collection-versions.refresh-interval:1s}",
+            initialDelayString = "${collection-versions.refresh-interval:1s}")
+    public void refresh() {
+        for (var version : collectionVersionRepository.findAllById(NAMES)) {
+            versions.merge(version.getName(), version.getVersion(), Math::max);
+        }
+    }
+
+    public Map<String, Long> getAll() {
+        var result = new LinkedHashMap<String, Long>();
+        NAMES.forEach(name -> result.put(name, versions.getOrDefault(name, 0L)));
+        return result;
+    }
+
+    public String eTag(String... names) {
+        return List.of(names).stream()
+                .map(name -> name + "." + versions.getOrDefault(name, 0L))
+                .collect(Collectors.joining("-", "\"", "\""));
+    }
+
+    private void increment(String name) {
+        var version = newTransaction.execute(status -> {
+            collectionVersionRepository.increment(name);
+            return collectionVersionRepository.findVersionByName(name);
+        });
+        if (version != null) {
+            versions.merge(name, version, Math::max);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<String> pendingBumps() {
+        var pending = (Set<String>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+        var names = new LinkedHashSet<String>();
+        TransactionSynchronizationManager.bindResource(this, names);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public int getOrder() {
+                return Ordered.HIGHEST_PRECEDENCE;
+            }
+
+            @Override
+            public void afterCommit() {
+                names.forEach(CollectionVersions.this::increment);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResource(CollectionVersions.this);
+            }
+        });
+        return names;
+    }
+}
@@ -0,0 +1,42 @@
+package hexlet.code.component;
+
+import hexlet.code.exception.ForbiddenOperationException;
+import hexlet.code.repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+@Component
+public class DeletionGuard {
+
+    private static final int REPORTED_REFERENCES = 10;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    public void checkUserDeletable(Long id) {
+        check("User", id, "assigned to", taskRepository::findIdsByAssigneeId);
+    }
+
+    public void checkLabelDeletable(Long id) {
+        check("Label", id, "used by", taskRepository::findIdsByLabelId);
+    }
+
+    public void checkTaskStatusDeletable(Long id) {
+        check("Task Status", id, "used by", taskRepository::findIdsByTaskStatusId);
+    }
+
+    private void check(String entity, Long id, String relation, BiFunction<Long, Limit, List<Long>> finder) {
+        var taskIds = finder.apply(id, Limit.of(REPORTED_REFERENCES + 1));
+        if (taskIds.isEmpty()) {
+            return;
+        }
+        var reported = taskIds.subList(0, Math.min(taskIds.size(), REPORTED_REFERENCES));
+        var more = taskIds.size() > REPORTED_REFERENCES ? " and more" : "";
+        throw new ForbiddenOperationException(
+                entity + " with id " + id + " is " + relation + " tasks " + reported + more);
+    }
+}
@@ -0,0 +1,58 @@
+package hexlet.code.component;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+
+@Component
+@ConditionalOnProperty(prefix = "datasource.replica.h2-snapshot", name = "enabled", havingValue = "true")
+public class H2ReplicaSnapshotter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(H2ReplicaSnapshotter.class);
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${datasource.replica.h2-snapshot.interval:10s}",
+            initialDelayString = "${datasource.replica.h2-snapshot.interval:10s}")
+    public void snapshot() {
+        var takenAt = LocalDateTime.now();
+        try {
+            var script = Files.createTempFile("replica-snapshot", ".sql");
+            try {
+                var location = script.toAbsolutePath().toString().replace("'", "''");
+                new JdbcTemplate(primaryDataSource).execute("SCRIPT NOPASSWORDS NOSETTINGS TO '" + location + "'");
+
+                var replica = new JdbcTemplate(replicaDataSource);
+                replica.execute("DROP ALL OBJECTS");
+                replica.execute("RUNSCRIPT FROM '" + location + "'");
+                replica.execute("CREATE TABLE replica_snapshot (taken_at TIMESTAMP NOT NULL)");
+                replica.update("INSERT INTO replica_snapshot (taken_at) VALUES (?)", takenAt);
+            } finally {
+                Files.deleteIfExists(script);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        LOGGER.debug("Copied primary database into the H2 replica as of {}", takenAt);
+    }
+}
@@ -0,0 +1,63 @@
+package hexlet.code.component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Aspect
+@Component
+public class InvocationMetricsAspect {
+
+    public static final String METRIC = "app.invocations";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    @Around("execution(public * hexlet.code.service..*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "service");
+    }
+
+    @Around("execution(public * hexlet.code.mapper..*(..))")
+    public Object timeMapper(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "mapper");
+    }
+
+    private Object time(ProceedingJoinPoint joinPoint, String layer) throws Throwable {
+        var sample = Timer.start(meterRegistry);
+        Class<?> exception = null;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass();
+            throw e;
+        } finally {
+            var method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+            sample.stop(timers.computeIfAbsent(new TimerKey(method, layer, exception), this::register));
+        }
+    }
+
+    private Timer register(TimerKey key) {
+        return Timer.builder(METRIC)
+                .description("Time spent in service and mapper methods")
+                .tag("layer", key.layer())
+                .tag("class", key.method().getDeclaringClass().getSimpleName())
+                .tag("method", key.method().getName())
+                .tag("exception", key.exception() != null ? key.exception().getSimpleName() : "none")
+                .register(meterRegistry);
+    }
+
+    private record TimerKey(Method method, String layer, Class<?> exception) {
+    }
+}
@@ -0,0 +1,39 @@
+package hexlet.code.component;
+
+import hexlet.code.model.Label;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+@Component
+public class LabelCache {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional(readOnly = true)
+    public Set<Long> findExistingIds(Collection<Long> labelIds) {
+        if (labelIds.isEmpty()) {
+            return new HashSet<>();
+        }
+        var ids = List.copyOf(labelIds);
+        var existingIds = new HashSet<Long>(ids.size());
+        entityManager.unwrap(Session.class)
+                .byMultipleIds(Label.class)
+                .enableSessionCheck(true)
+                .withBatchSize(ids.size())
+                .multiLoad(ids)
+                .stream()
+                .filter(Objects::nonNull)
+                .forEach(label -> existingIds.add(label.getId()));
+        return existingIds;
+    }
+}
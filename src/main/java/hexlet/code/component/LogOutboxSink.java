@@ -0,0 +1,34 @@
+package hexlet.code.component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.dto.DomainEventDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "outbox.sinks.log.enabled", havingValue = "true")
+public class LogOutboxSink implements OutboxSink {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger("outbox");
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Override
+    public String getName() {
+        return "log";
+    }
+
+    @Override
+    public void deliver(DomainEventDTO event) {
+        try {
+            LOGGER.info(objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize outbox event " + event.id(), e);
+        }
+    }
+}
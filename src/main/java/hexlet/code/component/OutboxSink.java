@@ -0,0 +1,10 @@
+package hexlet.code.component;
+
+import hexlet.code.dto.DomainEventDTO;
+
+public interface OutboxSink {
+
+    String getName();
+
+    void deliver(DomainEventDTO event);
+}
@@ -0,0 +1,23 @@
+package hexlet.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "security.password")
+@Setter
+@Getter
+public class PasswordHashingProperties {
+    private String encoder = "bcrypt";
+    private int bcryptStrength = 10;
+    private int argon2Memory = 1 << 14;
+    private int argon2Iterations = 2;
+    private int pbkdf2Iterations = 310_000;
+    private int hashingThreads = Runtime.getRuntime().availableProcessors();
+    private int hashingQueueCapacity = 100;
+    private Duration hashingTimeout = Duration.ofSeconds(5);
+}
@@ -0,0 +1,22 @@
+package hexlet.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "datasource.replica")
+@Setter
+@Getter
+public class ReplicaDataSourceProperties {
+    private String url;
+    private String username;
+    private String password;
+    private String driverClassName;
+    private Duration maxLag = Duration.ofSeconds(5);
+    private Duration stickyWindow = Duration.ofSeconds(5);
+    private String lagQuery;
+}
@@ -0,0 +1,113 @@
+package hexlet.code.component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import hexlet.code.util.ReadWriteRoutingDataSource;
+import hexlet.code.util.ReadWriteRoutingDataSource.Route;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@Component
+@ConditionalOnProperty(prefix = "datasource.replica", name = "url")
+public class ReplicaRouter implements Supplier<Route> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReplicaRouter.class);
+
+    @Autowired
+    private ReplicaDataSourceProperties properties;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    private volatile boolean replicaAvailable = true;
+    private Cache<String, Boolean> recentWriters;
+    private Counter replicaReads;
+    private Counter primaryReads;
+
+    @PostConstruct
+    public void init() {
+        recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getStickyWindow())
+                .build();
+        replicaReads = Counter.builder("datasource.routing.reads")
+                .description("Read-only transactions routed to a datasource")
+                .tag("target", "replica")
+                .register(meterRegistry);
+        primaryReads = Counter.builder("datasource.routing.reads")
+                .description("Read-only transactions routed to a datasource")
+                .tag("target", "primary")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.lag", lagMillis, AtomicLong::get)
+                .description("Replication lag of the read replica")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.available", this, router -> router.replicaAvailable ? 1 : 0)
+                .description("Whether read-only transactions may use the replica")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Route get() {
+        var principal = currentPrincipal();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (principal != null && TransactionSynchronizationManager.isActualTransactionActive()) {
+                recentWriters.put(principal, Boolean.TRUE);
+            }
+            return Route.PRIMARY;
+        }
+        if (!replicaAvailable
+                || ReadWriteRoutingDataSource.isPrimaryRead()
+                || (principal != null && recentWriters.getIfPresent(principal) != null)) {
+            primaryReads.increment();
+            return Route.PRIMARY;
+        }
+        replicaReads.increment();
+        return Route.REPLICA;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval:5s}")
+    public void checkLag() {
+        var lagQuery = properties.getLagQuery();
+        if (lagQuery == null || lagQuery.isBlank()) {
+            return;
+        }
+        try {
+            var jdbcTemplate = new JdbcTemplate(replicaDataSource);
+            jdbcTemplate.setQueryTimeout(1);
+            var lagSeconds = jdbcTemplate.queryForObject(lagQuery, Double.class);
+            var lag = lagSeconds != null ? Math.round(lagSeconds * 1000) : 0;
+            lagMillis.set(lag);
+            replicaAvailable = lag <= properties.getMaxLag().toMillis();
+        } catch (RuntimeException e) {
+            LOGGER.warn("Replica lag check failed, routing reads to primary: {}", e.getMessage());
+            replicaAvailable = false;
+        }
+    }
+
+    private static String currentPrincipal() {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+    }
+}
@@ -0,0 +1,81 @@
+package hexlet.code.component;
+
+import hexlet.code.dto.DomainEventDTO;
+import hexlet.code.model.Label;
+import hexlet.code.model.Task;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.model.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+@Component
+@Endpoint(id = "l2cache")
+public class SecondLevelCacheInvalidator {
+
+    public static final String TASK_LABELS_ROLE = Task.class.getName() + ".labels";
+
+    private static final Map<String, Class<?>> ENTITIES = Map.of(
+            CollectionVersions.LABELS, Label.class,
+            CollectionVersions.TASK_STATUSES, TaskStatus.class,
+            CollectionVersions.USERS, User.class);
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Value("${l2cache.invalidate-on-domain-events:false}")
+    private boolean invalidateOnDomainEvents;
+
+    @EventListener
+    public void onDomainEvent(DomainEventDTO event) {
+        if (invalidateOnDomainEvents) {
+            evict(event.aggregateType(), event.aggregateId());
+        }
+    }
+
+    public void evict(String aggregateType, Long id) {
+        var entityClass = ENTITIES.get(aggregateType);
+        if (entityClass != null) {
+            getCache().evictEntityData(entityClass, id);
+        } else if (CollectionVersions.TASKS.equals(aggregateType)) {
+            getCache().evictCollectionData(TASK_LABELS_ROLE, id);
+        }
+    }
+
+    @ReadOperation
+    public Map<String, Map<String, Long>> regions() {
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        var result = new TreeMap<String, Map<String, Long>>();
+        for (var region : statistics.getSecondLevelCacheRegionNames()) {
+            var regionStatistics = statistics.getCacheRegionStatistics(region);
+            if (regionStatistics != null) {
+                result.put(region, Map.of(
+                        "hits", regionStatistics.getHitCount(),
+                        "misses", regionStatistics.getMissCount(),
+                        "puts", regionStatistics.getPutCount(),
+                        "size", regionStatistics.getElementCountInMemory()));
+            }
+        }
+        return result;
+    }
+
+    @DeleteOperation
+    public void evictRegion(@Selector String region) {
+        getCache().evictRegion(region);
+    }
+
+    private Cache getCache() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+}
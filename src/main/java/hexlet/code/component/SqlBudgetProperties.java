@@ -0,0 +1,23 @@
+package hexlet.code.component;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+@ConfigurationProperties(prefix = "sql.budget")
+@Setter
+@Getter
+public class SqlBudgetProperties {
+    private int defaultLimit = 20;
+    private Map<String, Integer> endpoints = new HashMap<>();
+    private boolean exposeHeader = false;
+
+    public int limitFor(String method, String uri) {
+        return endpoints.getOrDefault(method + " " + uri, defaultLimit);
+    }
+}
@@ -0,0 +1,37 @@
+package hexlet.code.component;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+@ControllerAdvice
+@ConditionalOnProperty(name = "sql.budget.expose-header", havingValue = "true")
+public class SqlCountResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String HEADER = "X-SQL-Count";
+
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        var stats = sqlStatementCounter.current();
+        if (stats != null) {
+            response.getHeaders().set(HEADER, String.valueOf(stats.getCount()));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,90 @@
+package hexlet.code.component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class SqlMetricsFilter extends OncePerRequestFilter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SqlMetricsFilter.class);
+
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    @Autowired
+    private SqlBudgetProperties sqlBudgetProperties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<Tags, RequestMeters> requestMeters = new ConcurrentHashMap<>();
+
+    private Meter.MeterProvider<Counter> budgetExceeded;
+
+    @PostConstruct
+    public void registerMeters() {
+        budgetExceeded = Counter.builder("http.server.requests.sql.budget.exceeded")
+                .description("Requests that executed more SQL statements than their budget")
+                .withRegistry(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        var stats = sqlStatementCounter.start();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            sqlStatementCounter.stop(stats);
+            var pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            var uri = pattern != null ? pattern.toString() : "UNKNOWN";
+            var tags = Tags.of("method", request.getMethod(), "uri", uri);
+            var meters = requestMeters.computeIfAbsent(tags, this::register);
+            meters.count().record(stats.getCount());
+            meters.time().record(stats.getElapsedMillis(), TimeUnit.MILLISECONDS);
+
+            var limit = sqlBudgetProperties.limitFor(request.getMethod(), uri);
+            if (stats.getCount() > limit) {
+                LOGGER.warn("{} {} executed {} SQL statements, budget is {}",
+                        request.getMethod(), uri, stats.getCount(), limit);
+                budgetExceeded.withTags(tags).increment();
+            }
+        }
+    }
+
+    private RequestMeters register(Tags tags) {
+        var count = DistributionSummary.builder("http.server.requests.sql.count")
+                .description("SQL statements executed while handling a request")
+                .baseUnit("statements")
+                .tags(tags)
+                .register(meterRegistry);
+        var time = Timer.builder("http.server.requests.sql.time")
+                .description("Time spent executing SQL while handling a request")
+                .tags(tags)
+                .register(meterRegistry);
+        return new RequestMeters(count, time);
+    }
+
+    private record RequestMeters(DistributionSummary count, Timer time) {
+    }
+}
@@ -0,0 +1,63 @@
+package hexlet.code.component;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class SqlStatementCounter implements QueryExecutionListener {
+
+    private static final ThreadLocal<Stats> CURRENT = new ThreadLocal<>();
+
+    public Stats start() {
+        var stats = new Stats(CURRENT.get());
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public void stop(Stats stats) {
+        if (stats.parent != null) {
+            CURRENT.set(stats.parent);
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+    public Stats current() {
+        return CURRENT.get();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        for (var stats = CURRENT.get(); stats != null; stats = stats.parent) {
+            stats.count++;
+            stats.elapsedMillis += execInfo.getElapsedTime();
+        }
+    }
+
+    public static final class Stats {
+
+        private final Stats parent;
+        private long count;
+        private long elapsedMillis;
+
+        private Stats(Stats parent) {
+            this.parent = parent;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+    }
+}
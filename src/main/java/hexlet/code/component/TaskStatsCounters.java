@@ -0,0 +1,100 @@
+package hexlet.code.component;
+
+import hexlet.code.dto.task.TaskChangedEvent;
+import hexlet.code.dto.task.TaskDTO;
+import hexlet.code.dto.task.TaskStatsDTO;
+import hexlet.code.service.TaskStatsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@ConditionalOnProperty(name = "task.stats.counters.enabled", havingValue = "true")
+public class TaskStatsCounters {
+
+    @Autowired
+    private TaskStatsService taskStatsService;
+
+    private long total;
+    private final Map<String, Long> byStatus = new HashMap<>();
+    private final Map<String, Long> byAssignee = new HashMap<>();
+    private final Map<String, Long> byLabel = new HashMap<>();
+
+    private final Object resyncLock = new Object();
+    private List<TaskChangedEvent> changedDuringResync;
+
+    @Scheduled(fixedDelayString = "${task.stats.counters.resync-interval:5m}")
+    public void resync() {
+        synchronized (resyncLock) {
+            synchronized (this) {
+                changedDuringResync = new ArrayList<>();
+            }
+            TaskStatsDTO stats = null;
+            try {
+                stats = taskStatsService.query();
+            } finally {
+                synchronized (this) {
+                    if (stats != null) {
+                        total = stats.getTotal();
+                        replace(byStatus, stats.getByStatus());
+                        replace(byAssignee, stats.getByAssignee());
+                        replace(byLabel, stats.getByLabel());
+                        changedDuringResync.forEach(this::apply);
+                    }
+                    changedDuringResync = null;
+                }
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onTaskChanged(TaskChangedEvent event) {
+        apply(event);
+        if (changedDuringResync != null) {
+            changedDuringResync.add(event);
+        }
+    }
+
+    public synchronized TaskStatsDTO snapshot() {
+        var stats = new TaskStatsDTO();
+        stats.setTotal(total);
+        stats.setByStatus(new HashMap<>(byStatus));
+        stats.setByAssignee(new HashMap<>(byAssignee));
+        stats.setByLabel(new HashMap<>(byLabel));
+        return stats;
+    }
+
+    private void apply(TaskChangedEvent event) {
+        apply(event.previous(), -1);
+        apply(event.task(), 1);
+    }
+
+    private void apply(TaskDTO task, long delta) {
+        if (task == null) {
+            return;
+        }
+        total += delta;
+        add(byStatus, task.getStatus(), delta);
+        var assignee = task.getAssigneeId() != null ? task.getAssigneeId().toString() : TaskStatsDTO.UNASSIGNED;
+        add(byAssignee, assignee, delta);
+        if (task.getTaskLabelIds() != null) {
+            task.getTaskLabelIds().forEach(labelId -> add(byLabel, labelId.toString(), delta));
+        }
+    }
+
+    private static void add(Map<String, Long> counters, String key, long delta) {
+        counters.merge(key, delta, (current, change) -> current + change == 0 ? null : current + change);
+    }
+
+    private static void replace(Map<String, Long> counters, Map<String, Long> values) {
+        counters.clear();
+        counters.putAll(values);
+    }
+}
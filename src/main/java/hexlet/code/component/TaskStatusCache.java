@@ -0,0 +1,45 @@
+package hexlet.code.component;
+
+import hexlet.code.repository.TaskStatusRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.Optional;
+
+@Component
+public class TaskStatusCache {
+
+    public static final String IDS_BY_SLUG = "taskStatusIdsBySlug";
+
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Cache idsBySlug;
+
+    @PostConstruct
+    public void init() {
+        idsBySlug = Objects.requireNonNull(cacheManager.getCache(IDS_BY_SLUG),
+                "Cache " + IDS_BY_SLUG + " is not configured");
+    }
+
+    public Optional<Long> findIdBySlug(String slug) {
+        var cached = idsBySlug.get(slug, Long.class);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        var id = taskStatusRepository.findIdBySlug(slug);
+        id.ifPresent(value -> idsBySlug.put(slug, value));
+        return id;
+    }
+
+    public void evictAll() {
+        idsBySlug.clear();
+    }
+}
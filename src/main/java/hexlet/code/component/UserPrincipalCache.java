@@ -0,0 +1,54 @@
+package hexlet.code.component;
+
+import hexlet.code.model.User;
+import hexlet.code.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.Optional;
+
+@Component
+public class UserPrincipalCache {
+
+    public static final String IDS_BY_EMAIL = "userIdsByEmail";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Cache idsByEmail;
+
+    @PostConstruct
+    public void init() {
+        idsByEmail = Objects.requireNonNull(cacheManager.getCache(IDS_BY_EMAIL),
+                "Cache " + IDS_BY_EMAIL + " is not configured");
+    }
+
+    public Optional<String> findEmailById(Long id) {
+        return userRepository.findById(id).map(User::getEmail);
+    }
+
+    public Optional<Long> findIdByEmail(String email) {
+        var cached = idsByEmail.get(email, Long.class);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        var id = userRepository.findByEmail(email).map(User::getId);
+        id.ifPresent(value -> idsByEmail.put(email, value));
+        return id;
+    }
+
+    public void put(User user) {
+        idsByEmail.put(user.getEmail(), user.getId());
+    }
+
+    public void evict(String email) {
+        idsByEmail.evict(email);
+    }
+}
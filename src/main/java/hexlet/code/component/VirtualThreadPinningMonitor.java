@@ -0,0 +1,114 @@
+package hexlet.code.component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+@Component
+@Endpoint(id = "virtualthreads")
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int STACK_DEPTH = 8;
+    private static final int MAX_TRACKED_STACKS = 50;
+    private static final int REPORTED_STACKS = 10;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${diagnostics.virtual-threads.pinned-threshold:20ms}")
+    private Duration pinnedThreshold;
+
+    private final Map<String, LongAdder> pinnedStacks = new ConcurrentHashMap<>();
+
+    private RecordingStream recordingStream;
+    private Counter pinnedCounter;
+    private Timer pinnedTimer;
+
+    @PostConstruct
+    public void start() {
+        pinnedCounter = Counter.builder("jvm.threads.virtual.pinned")
+                .description("Virtual thread pinning events longer than the configured threshold")
+                .register(meterRegistry);
+        pinnedTimer = Timer.builder("jvm.threads.virtual.pinned.duration")
+                .description("Time virtual threads stayed pinned to their carrier thread")
+                .register(meterRegistry);
+
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT)
+                .withThreshold(pinnedThreshold)
+                .withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::record);
+        recordingStream.startAsync();
+    }
+
+    @PreDestroy
+    public void stop() {
+        recordingStream.close();
+    }
+
+    @ReadOperation
+    public Map<String, Object> pinning() {
+        var topStacks = pinnedStacks.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, LongAdder> e) -> e.getValue().sum()).reversed())
+                .limit(REPORTED_STACKS)
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().sum(),
+                        (a, b) -> a, LinkedHashMap::new));
+
+        var result = new LinkedHashMap<String, Object>();
+        result.put("threshold", pinnedThreshold.toString());
+        result.put("pinnedEvents", (long) pinnedCounter.count());
+        result.put("totalPinnedMillis", (long) pinnedTimer.totalTime(TimeUnit.MILLISECONDS));
+        result.put("maxPinnedMillis", (long) pinnedTimer.max(TimeUnit.MILLISECONDS));
+        result.put("topStacks", topStacks);
+        return result;
+    }
+
+    private void record(RecordedEvent event) {
+        pinnedCounter.increment();
+        pinnedTimer.record(event.getDuration());
+
+        var stackTrace = event.getStackTrace();
+        if (stackTrace == null) {
+            return;
+        }
+        var stack = stackTrace.getFrames().stream()
+                .limit(STACK_DEPTH)
+                .map(VirtualThreadPinningMonitor::format)
+                .collect(Collectors.joining(" <- "));
+        var counter = pinnedStacks.get(stack);
+        if (counter == null && pinnedStacks.size() < MAX_TRACKED_STACKS) {
+            counter = pinnedStacks.computeIfAbsent(stack, key -> new LongAdder());
+        }
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    private static String format(RecordedFrame frame) {
+        var method = frame.getMethod();
+        return method.getType().getName() + "." + method.getName() + ":" + frame.getLineNumber();
+    }
+}
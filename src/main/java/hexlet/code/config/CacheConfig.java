@@ -0,0 +1,26 @@
+package hexlet.code.config;
+
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+
+    @Bean
+    public CacheManager cacheManager(CacheProperties cacheProperties) {
+        var caffeineCacheManager = new CaffeineCacheManager();
+        var spec = cacheProperties.getCaffeine().getSpec();
+        if (spec != null) {
+            caffeineCacheManager.setCacheSpecification(spec);
+        }
+        caffeineCacheManager.setAllowNullValues(false);
+        caffeineCacheManager.setCacheNames(cacheProperties.getCacheNames());
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+}
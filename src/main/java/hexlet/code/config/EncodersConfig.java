@@ -6,26 +6,68 @@ import com.nimbusds.jose.jwk.RSAKey;
 import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
 import com.nimbusds.jose.jwk.source.JWKSource;
 import com.nimbusds.jose.proc.SecurityContext;
+import hexlet.code.component.PasswordHashingProperties;
 import hexlet.code.component.RsaKeyProperties;
+import hexlet.code.util.BoundedPasswordEncoder;
+import hexlet.code.util.CachingJwtDecoder;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
 
+import java.time.Duration;
+import java.util.HashMap;
+
 @Configuration
 public class EncodersConfig {
 
     @Autowired
     private RsaKeyProperties rsaKeys;
 
+    @Autowired
+    private PasswordHashingProperties passwordHashing;
+
+    @Value("${jwt.cache.maximum-size:10000}")
+    private long jwtCacheMaximumSize;
+
+    @Value("${jwt.cache.maximum-ttl:5m}")
+    private Duration jwtCacheMaximumTtl;
+
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return boundedPasswordEncoder(passwordHashing);
+    }
+
+    public static BoundedPasswordEncoder boundedPasswordEncoder(PasswordHashingProperties properties) {
+        return new BoundedPasswordEncoder(delegatingPasswordEncoder(properties),
+                properties.getHashingThreads(),
+                properties.getHashingQueueCapacity(),
+                properties.getHashingTimeout());
+    }
+
+    public static DelegatingPasswordEncoder delegatingPasswordEncoder(PasswordHashingProperties properties) {
+        var bcrypt = new BCryptPasswordEncoder(properties.getBcryptStrength());
+        var encoders = new HashMap<String, PasswordEncoder>();
+        encoders.put("bcrypt", bcrypt);
+        encoders.put("argon2", new Argon2PasswordEncoder(16, 32, 1,
+                properties.getArgon2Memory(), properties.getArgon2Iterations()));
+        encoders.put("pbkdf2", new Pbkdf2PasswordEncoder("", 16,
+                properties.getPbkdf2Iterations(), SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256));
+
+        var encoder = new DelegatingPasswordEncoder(properties.getEncoder(), encoders);
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
     }
 
     @Bean
@@ -41,7 +83,8 @@ public class EncodersConfig {
     }
 
     @Bean
-    JwtDecoder jwtDecoder() {
-        return NimbusJwtDecoder.withPublicKey(rsaKeys.getPublicKey()).build();
+    JwtDecoder jwtDecoder(MeterRegistry meterRegistry) {
+        var decoder = NimbusJwtDecoder.withPublicKey(rsaKeys.getPublicKey()).build();
+        return new CachingJwtDecoder(decoder, jwtCacheMaximumSize, jwtCacheMaximumTtl, meterRegistry);
     }
 }
@@ -1,6 +1,8 @@
 package hexlet.code.controller.api;
 
+import hexlet.code.component.UserPrincipalCache;
 import hexlet.code.dto.AuthRequestDTO;
+import hexlet.code.model.User;
 import hexlet.code.util.JWTUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -20,12 +22,18 @@ public class AuthenticationController {
     @Autowired
     private AuthenticationManager authenticationManager;
 
+    @Autowired
+    private UserPrincipalCache userPrincipalCache;
+
     @PostMapping("/login")
     public String login(@RequestBody AuthRequestDTO authRequest) {
         var authentication = new UsernamePasswordAuthenticationToken(
                 authRequest.getUsername(), authRequest.getPassword());
 
-        authenticationManager.authenticate(authentication);
+        var authenticated = authenticationManager.authenticate(authentication);
+        if (authenticated.getPrincipal() instanceof User user) {
+            userPrincipalCache.put(user);
+        }
 
         var token = jwtUtils.generateToken(authRequest.getUsername());
         return token;
@@ -4,6 +4,7 @@ import hexlet.code.dto.label.LabelCreateDTO;
 import hexlet.code.dto.label.LabelDTO;
 import hexlet.code.dto.label.LabelUpdateDTO;
 import hexlet.code.service.LabelService;
+import hexlet.code.util.ReadWriteRoutingDataSource;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -18,6 +19,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -29,12 +31,19 @@ public class LabelsController {
     private LabelService labelService;
 
     @GetMapping
-    public ResponseEntity<List<LabelDTO>> index() {
-        return labelService.getAll();
+    public ResponseEntity<List<LabelDTO>> index(WebRequest request) {
+        if (request.checkNotModified(labelService.getETag())) {
+            return null;
+        }
+        return ReadWriteRoutingDataSource.readFromPrimary(labelService::getAll);
     }
 
     @GetMapping("/{id}")
-    public LabelDTO show(@PathVariable Long id) {
+    public LabelDTO show(@PathVariable Long id, WebRequest request) {
+        var stamp = labelService.getStamp(id);
+        if (stamp.isPresent() && request.checkNotModified(stamp.get().eTag(), stamp.get().lastModifiedMillis())) {
+            return null;
+        }
         return labelService.findById(id);
     }
 
@@ -4,6 +4,7 @@ import hexlet.code.dto.task_status.TaskStatusCreateDTO;
 import hexlet.code.dto.task_status.TaskStatusDTO;
 import hexlet.code.dto.task_status.TaskStatusUpdateDTO;
 import hexlet.code.service.TaskStatusService;
+import hexlet.code.util.ReadWriteRoutingDataSource;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -18,6 +19,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -29,12 +31,19 @@ public class TaskStatusesController {
     private TaskStatusService taskStatusService;
 
     @GetMapping
-    public ResponseEntity<List<TaskStatusDTO>> index() {
-        return taskStatusService.getAll();
+    public ResponseEntity<List<TaskStatusDTO>> index(WebRequest request) {
+        if (request.checkNotModified(taskStatusService.getETag())) {
+            return null;
+        }
+        return ReadWriteRoutingDataSource.readFromPrimary(taskStatusService::getAll);
     }
 
     @GetMapping("/{id}")
-    public TaskStatusDTO show(@PathVariable Long id) {
+    public TaskStatusDTO show(@PathVariable Long id, WebRequest request) {
+        var stamp = taskStatusService.getStamp(id);
+        if (stamp.isPresent() && request.checkNotModified(stamp.get().eTag(), stamp.get().lastModifiedMillis())) {
+            return null;
+        }
         return taskStatusService.findById(id);
     }
 
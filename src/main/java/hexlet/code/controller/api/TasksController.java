@@ -1,25 +1,43 @@
 package hexlet.code.controller.api;
 
+import hexlet.code.dto.task.TaskBatchResultDTO;
+import hexlet.code.dto.task.TaskBatchUpdateDTO;
 import hexlet.code.dto.task.TaskCreateDTO;
 import hexlet.code.dto.task.TaskDTO;
+import hexlet.code.dto.task.TaskPageParamsDTO;
 import hexlet.code.dto.task.TaskParamsDTO;
+import hexlet.code.dto.task.TaskStatsDTO;
 import hexlet.code.dto.task.TaskUpdateDTO;
+import hexlet.code.service.TaskBatchService;
+import hexlet.code.service.TaskEventService;
+import hexlet.code.service.TaskExportService;
+import hexlet.code.service.TaskImportService;
 import hexlet.code.service.TaskService;
+import hexlet.code.service.TaskStatsService;
+import hexlet.code.util.ReadWriteRoutingDataSource;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -29,13 +47,61 @@ public class TasksController {
     @Autowired
     private TaskService taskService;
 
+    @Autowired
+    private TaskBatchService taskBatchService;
+
+    @Autowired
+    private TaskEventService taskEventService;
+
+    @Autowired
+    private TaskStatsService taskStatsService;
+
+    @Autowired
+    private TaskExportService taskExportService;
+
+    @Autowired
+    private TaskImportService taskImportService;
+
     @GetMapping
-    public ResponseEntity<List<TaskDTO>> index(TaskParamsDTO params) {
-        return taskService.getAll(params);
+    public ResponseEntity<List<TaskDTO>> index(TaskParamsDTO params, WebRequest request) {
+        if (request.checkNotModified(taskService.getETag())) {
+            return null;
+        }
+        return ReadWriteRoutingDataSource.readFromPrimary(() -> taskService.getAll(params));
+    }
+
+    @GetMapping(params = "limit")
+    public ResponseEntity<StreamingResponseBody> page(TaskParamsDTO params, @Valid TaskPageParamsDTO page) {
+        return taskService.getPage(params, page);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            TaskParamsDTO params,
+            @RequestParam(defaultValue = TaskExportService.NDJSON) String format) {
+        return taskExportService.export(params, format);
+    }
+
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events(TaskParamsDTO params,
+                             @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return taskEventService.subscribe(params, lastEventId);
+    }
+
+    @GetMapping("/stats")
+    public TaskStatsDTO stats(WebRequest request) {
+        if (request.checkNotModified(taskService.getETag())) {
+            return null;
+        }
+        return ReadWriteRoutingDataSource.readFromPrimary(taskStatsService::getStats);
     }
 
     @GetMapping("/{id}")
-    public TaskDTO show(@PathVariable Long id) {
+    public TaskDTO show(@PathVariable Long id, WebRequest request) {
+        var stamp = taskService.getStamp(id);
+        if (stamp.isPresent() && request.checkNotModified(stamp.get().eTag(), stamp.get().lastModifiedMillis())) {
+            return null;
+        }
         return taskService.findById(id);
     }
 
@@ -46,6 +112,20 @@ public class TasksController {
         return taskService.create(taskData);
     }
 
+    @PostMapping("/batch")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<TaskBatchResultDTO>> createBatch(@RequestBody List<TaskCreateDTO> tasksData) {
+        return toBatchResponse(taskBatchService.createAll(tasksData));
+    }
+
+    @PostMapping("/import")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<StreamingResponseBody> importTasks(
+            InputStream input,
+            @RequestParam(defaultValue = TaskExportService.NDJSON) String format) {
+        return taskImportService.importTasks(input, format);
+    }
+
     @PutMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
     @PreAuthorize("isAuthenticated()")
@@ -55,10 +135,21 @@ public class TasksController {
         return dto;
     }
 
+    @PatchMapping("/batch")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<TaskBatchResultDTO>> updateBatch(@RequestBody List<TaskBatchUpdateDTO> tasksData) {
+        return toBatchResponse(taskBatchService.updateAll(tasksData));
+    }
+
     @DeleteMapping("/{id}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @PreAuthorize("isAuthenticated()")
     public void destroy(@PathVariable Long id) {
         taskService.delete(id);
     }
+
+    private static ResponseEntity<List<TaskBatchResultDTO>> toBatchResponse(List<TaskBatchResultDTO> results) {
+        var failed = results.stream().anyMatch(result -> result.getStatus() == TaskBatchResultDTO.Status.FAILED);
+        return ResponseEntity.status(failed ? HttpStatus.MULTI_STATUS : HttpStatus.OK).body(results);
+    }
 }
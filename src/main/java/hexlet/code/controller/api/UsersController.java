@@ -4,6 +4,7 @@ import hexlet.code.dto.user.UserCreateDTO;
 import hexlet.code.dto.user.UserDTO;
 import hexlet.code.dto.user.UserUpdateDTO;
 import hexlet.code.service.UserService;
+import hexlet.code.util.ReadWriteRoutingDataSource;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -18,6 +19,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -29,12 +31,19 @@ public class UsersController {
     private UserService userService;
 
     @GetMapping
-    public ResponseEntity<List<UserDTO>> index() {
-        return userService.getAll();
+    public ResponseEntity<List<UserDTO>> index(WebRequest request) {
+        if (request.checkNotModified(userService.getETag())) {
+            return null;
+        }
+        return ReadWriteRoutingDataSource.readFromPrimary(userService::getAll);
     }
 
     @GetMapping("/{id}")
-    public UserDTO show(@PathVariable Long id) {
+    public UserDTO show(@PathVariable Long id, WebRequest request) {
+        var stamp = userService.getStamp(id);
+        if (stamp.isPresent() && request.checkNotModified(stamp.get().eTag(), stamp.get().lastModifiedMillis())) {
+            return null;
+        }
         return userService.findById(id);
     }
 
@@ -0,0 +1,22 @@
+package hexlet.code.controller.api;
+
+import hexlet.code.component.CollectionVersions;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/versions")
+public class VersionsController {
+
+    @Autowired
+    private CollectionVersions collectionVersions;
+
+    @GetMapping
+    public Map<String, Long> index() {
+        return collectionVersions.getAll();
+    }
+}
@@ -0,0 +1,15 @@
+package hexlet.code.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import hexlet.code.model.OutboxEvent;
+
+import java.time.LocalDateTime;
+
+public record DomainEventDTO(Long id, String aggregateType, Long aggregateId, String eventType,
+                             @JsonRawValue String payload, LocalDateTime createdAt) {
+
+    public static DomainEventDTO of(OutboxEvent event) {
+        return new DomainEventDTO(event.getId(), event.getAggregateType(), event.getAggregateId(),
+                event.getEventType(), event.getPayload(), event.getCreatedAt());
+    }
+}
@@ -0,0 +1,30 @@
+package hexlet.code.dto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+
+public record ResourceStamp(Long id, LocalDateTime lastModified) {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    public ResourceStamp(Long id, LocalDateTime lastModified, LocalDateTime dependencyModified) {
+        this(id, latest(lastModified, dependencyModified));
+    }
+
+    public String eTag() {
+        var modified = lastModified == null ? 0 : ChronoUnit.MICROS.between(EPOCH, lastModified);
+        return "\"" + id + "-" + Long.toHexString(modified) + "\"";
+    }
+
+    public long lastModifiedMillis() {
+        return lastModified == null ? -1 : lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime latest(LocalDateTime first, LocalDateTime second) {
+        if (first == null || second != null && second.isAfter(first)) {
+            return second;
+        }
+        return first;
+    }
+}
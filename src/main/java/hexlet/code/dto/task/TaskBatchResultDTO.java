@@ -0,0 +1,30 @@
+package hexlet.code.dto.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class TaskBatchResultDTO {
+
+    public enum Status {
+        CREATED,
+        UPDATED,
+        FAILED
+    }
+
+    private int index;
+    private Long id;
+    private Status status;
+    private String error;
+
+    public static TaskBatchResultDTO success(int index, Long id, Status status) {
+        return new TaskBatchResultDTO(index, id, status, null);
+    }
+
+    public static TaskBatchResultDTO failure(int index, Long id, String error) {
+        return new TaskBatchResultDTO(index, id, Status.FAILED, error);
+    }
+}
@@ -0,0 +1,11 @@
+package hexlet.code.dto.task;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class TaskBatchUpdateDTO extends TaskUpdateDTO {
+
+    private Long id;
+}
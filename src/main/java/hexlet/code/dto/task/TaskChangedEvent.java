@@ -0,0 +1,24 @@
+package hexlet.code.dto.task;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+public record TaskChangedEvent(Type type, Long taskId, TaskDTO task, @JsonIgnore TaskDTO previous) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public static TaskChangedEvent created(TaskDTO task) {
+        return new TaskChangedEvent(Type.CREATED, task.getId(), task, null);
+    }
+
+    public static TaskChangedEvent updated(TaskDTO previous, TaskDTO task) {
+        return new TaskChangedEvent(Type.UPDATED, task.getId(), task, previous);
+    }
+
+    public static TaskChangedEvent deleted(TaskDTO previous) {
+        return new TaskChangedEvent(Type.DELETED, previous.getId(), null, previous);
+    }
+}
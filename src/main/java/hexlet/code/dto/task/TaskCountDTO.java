@@ -0,0 +1,4 @@
+package hexlet.code.dto.task;
+
+public record TaskCountDTO(String key, Long count) {
+}
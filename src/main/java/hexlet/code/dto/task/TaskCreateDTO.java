@@ -1,6 +1,7 @@
 package hexlet.code.dto.task;
 
 import com.fasterxml.jackson.annotation.JsonAlias;
+import jakarta.validation.constraints.NotBlank;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -16,7 +17,11 @@ public class TaskCreateDTO {
     @JsonAlias("assignee_id")
     private Long assigneeId;
 
+    @NotBlank
     private String title;
+
     private String content;
+
+    @NotBlank
     private String status;
 }
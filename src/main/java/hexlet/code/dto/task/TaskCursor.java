@@ -0,0 +1,41 @@
+package hexlet.code.dto.task;
+
+import hexlet.code.exception.BadRequestException;
+import hexlet.code.model.Task;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+public record TaskCursor(LocalDate createdAt, Long id) {
+
+    public static final Sort SORT = Sort.by("createdAt", "id");
+
+    private static final String SEPARATOR = "|";
+
+    public static TaskCursor of(Task task) {
+        return new TaskCursor(task.getCreatedAt(), task.getId());
+    }
+
+    public static TaskCursor decode(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            var decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            var separatorIndex = decoded.indexOf(SEPARATOR);
+            var createdAt = LocalDate.parse(decoded.substring(0, separatorIndex));
+            var id = Long.valueOf(decoded.substring(separatorIndex + 1));
+            return new TaskCursor(createdAt, id);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor " + value);
+        }
+    }
+
+    public String encode() {
+        var raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
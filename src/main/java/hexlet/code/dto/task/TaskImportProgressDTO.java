@@ -0,0 +1,4 @@
+package hexlet.code.dto.task;
+
+public record TaskImportProgressDTO(long processed, long imported, long failed, boolean done) {
+}
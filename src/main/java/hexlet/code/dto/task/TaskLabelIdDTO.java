@@ -0,0 +1,4 @@
+package hexlet.code.dto.task;
+
+public record TaskLabelIdDTO(Long taskId, Long labelId) {
+}
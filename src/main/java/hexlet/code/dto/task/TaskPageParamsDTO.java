@@ -0,0 +1,19 @@
+package hexlet.code.dto.task;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class TaskPageParamsDTO {
+
+    @Min(1)
+    @Max(1000)
+    private Integer limit;
+
+    private String after;
+
+    private boolean withTotalCount;
+}
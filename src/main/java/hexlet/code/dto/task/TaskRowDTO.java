@@ -0,0 +1,13 @@
+package hexlet.code.dto.task;
+
+import java.time.LocalDate;
+
+public record TaskRowDTO(
+        Long id,
+        String title,
+        String content,
+        String status,
+        Long assigneeId,
+        Integer index,
+        LocalDate createdAt) {
+}
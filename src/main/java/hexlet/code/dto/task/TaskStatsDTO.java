@@ -0,0 +1,18 @@
+package hexlet.code.dto.task;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Map;
+
+@Getter
+@Setter
+public class TaskStatsDTO {
+
+    public static final String UNASSIGNED = "unassigned";
+
+    private long total;
+    private Map<String, Long> byStatus;
+    private Map<String, Long> byAssignee;
+    private Map<String, Long> byLabel;
+}
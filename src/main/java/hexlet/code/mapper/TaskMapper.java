@@ -1,21 +1,29 @@
 package hexlet.code.mapper;
 
+import hexlet.code.component.LabelCache;
+import hexlet.code.component.TaskStatusCache;
 import hexlet.code.dto.task.TaskCreateDTO;
 import hexlet.code.dto.task.TaskDTO;
+import hexlet.code.dto.task.TaskRowDTO;
 import hexlet.code.dto.task.TaskUpdateDTO;
+import hexlet.code.exception.BadRequestException;
 import hexlet.code.model.Label;
 import hexlet.code.model.Task;
 import hexlet.code.model.TaskStatus;
 import hexlet.code.repository.LabelRepository;
 import hexlet.code.repository.TaskStatusRepository;
+import org.mapstruct.AfterMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
 import org.mapstruct.MappingTarget;
+import org.mapstruct.Named;
 import org.mapstruct.NullValuePropertyMappingStrategy;
 import org.mapstruct.ReportingPolicy;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -27,9 +35,15 @@ import java.util.stream.Collectors;
 )
 public abstract class TaskMapper {
 
+    @Autowired
+    private TaskStatusCache taskStatusCache;
+
     @Autowired
     private TaskStatusRepository taskStatusRepository;
 
+    @Autowired
+    private LabelCache labelCache;
+
     @Autowired
     private LabelRepository labelRepository;
 
@@ -49,6 +63,18 @@ public abstract class TaskMapper {
     @Mapping(target = "content", source = "description")
     public abstract TaskDTO map(Task model);
 
+    @Named("withoutLabels")
+    @Mapping(target = "assigneeId", source = "assignee.id")
+    @Mapping(target = "status", source = "taskStatus.slug")
+    @Mapping(target = "taskLabelIds", ignore = true)
+    @Mapping(target = "index", source = "taskIndex")
+    @Mapping(target = "title", source = "name")
+    @Mapping(target = "content", source = "description")
+    public abstract TaskDTO mapWithoutLabels(Task model);
+
+    @Mapping(target = "taskLabelIds", ignore = true)
+    public abstract TaskDTO map(TaskRowDTO row);
+
     @Mapping(target = "assignee", source = "assigneeId")
     @Mapping(target = "taskStatus", source = "status")
     @Mapping(target = "labels", source = "taskLabelIds")
@@ -57,15 +83,33 @@ public abstract class TaskMapper {
     @Mapping(target = "description", source = "content")
     public abstract void update(@MappingTarget Task model, TaskUpdateDTO dto);
 
+    @AfterMapping
+    public void touch(@MappingTarget Task model, TaskUpdateDTO dto) {
+        model.setUpdatedAt(LocalDateTime.now());
+    }
+
     public TaskStatus toEntity(String slug) {
-        return taskStatusRepository.findBySlug(slug)
-                .orElseThrow();
+        if (slug == null) {
+            throw new BadRequestException("Task status is required");
+        }
+        var taskStatusId = taskStatusCache.findIdBySlug(slug)
+                .orElseThrow(() -> new BadRequestException("Task status with slug " + slug + " not found"));
+        return taskStatusRepository.getReferenceById(taskStatusId);
     }
 
     public Set<Label> toEntity(Set<Long> labelIds) {
+        if (labelIds == null) {
+            return new HashSet<>();
+        }
+        var existingIds = labelCache.findExistingIds(labelIds);
+        if (existingIds.size() < labelIds.size()) {
+            var unknownIds = labelIds.stream()
+                    .filter(id -> !existingIds.contains(id))
+                    .toList();
+            throw new BadRequestException("Labels with ids " + unknownIds + " not found");
+        }
         return labelIds.stream()
-                .filter(id -> labelRepository.findById(id).isPresent())
-                .map(id -> labelRepository.findById(id).get())
+                .map(labelRepository::getReferenceById)
                 .collect(Collectors.toSet());
     }
 
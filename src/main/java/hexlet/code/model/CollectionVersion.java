@@ -0,0 +1,23 @@
+package hexlet.code.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "collection_versions")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CollectionVersion implements BaseEntity {
+
+    @Id
+    private String name;
+
+    private Long version;
+}
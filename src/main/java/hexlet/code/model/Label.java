@@ -1,30 +1,39 @@
 package hexlet.code.model;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "labels", uniqueConstraints = {@UniqueConstraint(columnNames = "name")})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "labels")
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @Setter
 public class Label implements BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "labels_seq")
+    @SequenceGenerator(name = "labels_seq", sequenceName = "labels_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -33,4 +42,7 @@ public class Label implements BaseEntity {
 
     @CreatedDate
     private LocalDate createdAt;
+
+    @LastModifiedDate
+    private LocalDateTime updatedAt;
 }
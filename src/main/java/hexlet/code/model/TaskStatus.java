@@ -1,30 +1,39 @@
 package hexlet.code.model;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "task_statuses", uniqueConstraints = {@UniqueConstraint(columnNames = {"name", "slug"})})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "taskStatuses")
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @Setter
 public class TaskStatus implements BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_statuses_seq")
+    @SequenceGenerator(name = "task_statuses_seq", sequenceName = "task_statuses_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -36,4 +45,7 @@ public class TaskStatus implements BaseEntity {
 
     @CreatedDate
     private LocalDate createdAt;
+
+    @LastModifiedDate
+    private LocalDateTime updatedAt;
 }
@@ -0,0 +1,21 @@
+package hexlet.code.repository;
+
+import hexlet.code.model.CollectionVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface CollectionVersionRepository extends JpaRepository<CollectionVersion, String> {
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE CollectionVersion v SET v.version = v.version + 1 WHERE v.name = :name")
+    int increment(@Param("name") String name);
+
+    @Query("SELECT v.version FROM CollectionVersion v WHERE v.name = :name")
+    Long findVersionByName(@Param("name") String name);
+}
@@ -1,12 +1,32 @@
 package hexlet.code.repository;
 
+import hexlet.code.dto.ResourceStamp;
 import hexlet.code.model.Label;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface LabelRepository extends JpaRepository<Label, Long> {
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Label> findAll();
+
     Optional<Label> findByName(String name);
+
+    @Query("SELECT l.id FROM #{#entityName} l WHERE l.id IN :ids")
+    Set<Long> findIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new hexlet.code.dto.ResourceStamp(l.id, l.updatedAt)"
+            + " FROM #{#entityName} l WHERE l.id = :id")
+    Optional<ResourceStamp> findStampById(@Param("id") Long id);
 }
@@ -0,0 +1,39 @@
+package hexlet.code.repository;
+
+import hexlet.code.model.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    List<OutboxEvent> findByProcessedAtIsNullAndAttemptsLessThanAndIdGreaterThanOrderByIdAsc(
+            int maxAttempts, long afterId, Limit limit);
+
+    long countByProcessedAtIsNullAndAttemptsLessThan(int maxAttempts);
+
+    long countByProcessedAtIsNullAndAttemptsGreaterThanEqual(int maxAttempts);
+
+    @Query("SELECT MIN(e.createdAt) FROM OutboxEvent e WHERE e.processedAt IS NULL AND e.attempts < :maxAttempts")
+    Optional<LocalDateTime> findOldestPendingCreatedAt(@Param("maxAttempts") int maxAttempts);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.processedAt < :before")
+    int deleteProcessedBefore(@Param("before") LocalDateTime before);
+}
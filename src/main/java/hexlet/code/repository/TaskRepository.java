@@ -1,22 +1,61 @@
 package hexlet.code.repository;
 
+import hexlet.code.dto.ResourceStamp;
+import hexlet.code.dto.task.TaskCountDTO;
+import hexlet.code.dto.task.TaskRowDTO;
 import hexlet.code.model.Task;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>,
+        TaskRowRepository {
     Optional<Task> findById(Long id);
 
-    List<Task> findAllByAssigneeId(Long id);
-    List<Task> findAllByTaskStatusId(Long id);
+    @Override
+    @EntityGraph(attributePaths = {"taskStatus", "assignee", "labels"})
+    List<Task> findAll(Specification<Task> spec);
 
-    @Query("SELECT t FROM #{#entityName} t JOIN t.labels l WHERE l.id = :labelId")
-    List<Task> findAllByLabelId(@Param("labelId") Long id);
+    @Query("SELECT t FROM #{#entityName} t JOIN FETCH t.taskStatus LEFT JOIN FETCH t.assignee"
+            + " LEFT JOIN FETCH t.labels WHERE t.id IN :ids")
+    List<Task> findAllWithAssociationsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new hexlet.code.dto.task.TaskRowDTO(t.id, t.name, t.description, s.slug, a.id, t.taskIndex,"
+            + " t.createdAt) FROM #{#entityName} t JOIN t.taskStatus s LEFT JOIN t.assignee a WHERE t.id = :id")
+    Optional<TaskRowDTO> findRowById(@Param("id") Long id);
+
+    @Query("SELECT t.id FROM #{#entityName} t WHERE t.assignee.id = :assigneeId ORDER BY t.id")
+    List<Long> findIdsByAssigneeId(@Param("assigneeId") Long id, Limit limit);
+
+    @Query("SELECT t.id FROM #{#entityName} t WHERE t.taskStatus.id = :taskStatusId ORDER BY t.id")
+    List<Long> findIdsByTaskStatusId(@Param("taskStatusId") Long id, Limit limit);
+
+    @Query("SELECT t.id FROM #{#entityName} t JOIN t.labels l WHERE l.id = :labelId ORDER BY t.id")
+    List<Long> findIdsByLabelId(@Param("labelId") Long id, Limit limit);
+
+    @Query("SELECT new hexlet.code.dto.ResourceStamp(t.id, t.updatedAt, s.updatedAt)"
+            + " FROM #{#entityName} t JOIN t.taskStatus s WHERE t.id = :id")
+    Optional<ResourceStamp> findStampById(@Param("id") Long id);
+
+    @Query("SELECT new hexlet.code.dto.task.TaskCountDTO(s.slug, COUNT(t))"
+            + " FROM #{#entityName} t JOIN t.taskStatus s GROUP BY s.slug")
+    List<TaskCountDTO> countByStatus();
+
+    @Query("SELECT new hexlet.code.dto.task.TaskCountDTO(CAST(a.id AS String), COUNT(t))"
+            + " FROM #{#entityName} t LEFT JOIN t.assignee a GROUP BY a.id")
+    List<TaskCountDTO> countByAssignee();
+
+    @Query("SELECT new hexlet.code.dto.task.TaskCountDTO(CAST(l.id AS String), COUNT(t))"
+            + " FROM #{#entityName} t JOIN t.labels l GROUP BY l.id")
+    List<TaskCountDTO> countByLabel();
 }
@@ -0,0 +1,17 @@
+package hexlet.code.repository;
+
+import hexlet.code.dto.task.TaskRowDTO;
+import hexlet.code.model.Task;
+import hexlet.code.specification.TaskOrder;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public interface TaskRowRepository {
+    List<TaskRowDTO> findRows(Specification<Task> spec, TaskOrder order);
+
+    Map<Long, Set<Long>> findLabelIdsByTaskIds(Collection<Long> taskIds);
+}
@@ -0,0 +1,69 @@
+package hexlet.code.repository;
+
+import hexlet.code.dto.task.TaskLabelIdDTO;
+import hexlet.code.dto.task.TaskRowDTO;
+import hexlet.code.model.Task;
+import hexlet.code.specification.TaskOrder;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.JoinType;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class TaskRowRepositoryImpl implements TaskRowRepository {
+
+    private static final int MAX_IDS_PER_QUERY = 1_000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TaskRowDTO> findRows(Specification<Task> spec, TaskOrder order) {
+        var cb = entityManager.getCriteriaBuilder();
+        var query = cb.createQuery(TaskRowDTO.class);
+        var root = query.from(Task.class);
+        var taskStatus = root.join("taskStatus");
+        var assignee = root.join("assignee", JoinType.LEFT);
+
+        query.select(cb.construct(TaskRowDTO.class,
+                root.<Long>get("id"),
+                root.<String>get("name"),
+                root.<String>get("description"),
+                taskStatus.<String>get("slug"),
+                assignee.<Long>get("id"),
+                root.<Integer>get("taskIndex"),
+                root.<LocalDate>get("createdAt")));
+        var predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        var orders = order.toOrders(root, cb);
+        query.orderBy(orders.isEmpty() ? List.of(cb.asc(root.get("id"))) : orders);
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    @Override
+    public Map<Long, Set<Long>> findLabelIdsByTaskIds(Collection<Long> taskIds) {
+        var result = new HashMap<Long, Set<Long>>();
+        var ids = new ArrayList<>(taskIds);
+        for (var from = 0; from < ids.size(); from += MAX_IDS_PER_QUERY) {
+            var chunk = ids.subList(from, Math.min(from + MAX_IDS_PER_QUERY, ids.size()));
+            var rows = entityManager.createQuery("SELECT new hexlet.code.dto.task.TaskLabelIdDTO(t.id, l.id)"
+                            + " FROM Task t JOIN t.labels l WHERE t.id IN :ids", TaskLabelIdDTO.class)
+                    .setParameter("ids", chunk)
+                    .getResultList();
+            for (var row : rows) {
+                result.computeIfAbsent(row.taskId(), taskId -> new HashSet<>()).add(row.labelId());
+            }
+        }
+        return result;
+    }
+}
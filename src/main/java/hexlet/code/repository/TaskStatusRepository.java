@@ -1,12 +1,30 @@
 package hexlet.code.repository;
 
+import hexlet.code.dto.ResourceStamp;
 import hexlet.code.model.TaskStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface TaskStatusRepository extends JpaRepository<TaskStatus, Long> {
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<TaskStatus> findAll();
+
     Optional<TaskStatus> findBySlug(String slug);
+
+    @Query("SELECT s.id FROM #{#entityName} s WHERE s.slug = :slug")
+    Optional<Long> findIdBySlug(@Param("slug") String slug);
+
+    @Query("SELECT new hexlet.code.dto.ResourceStamp(s.id, s.updatedAt)"
+            + " FROM #{#entityName} s WHERE s.id = :id")
+    Optional<ResourceStamp> findStampById(@Param("id") Long id);
 }
@@ -1,12 +1,24 @@
 package hexlet.code.repository;
 
+import hexlet.code.dto.ResourceStamp;
 import hexlet.code.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
+
+    @Query("SELECT new hexlet.code.dto.ResourceStamp(u.id, u.updatedAt)"
+            + " FROM #{#entityName} u WHERE u.id = :id")
+    Optional<ResourceStamp> findStampById(@Param("id") Long id);
+
+    @Query("SELECT u.id FROM #{#entityName} u WHERE u.id IN :ids")
+    Set<Long> findIdsByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -1,18 +1,23 @@
 package hexlet.code.service;
 
+import hexlet.code.component.CollectionVersions;
+import hexlet.code.component.DeletionGuard;
+import hexlet.code.dto.ResourceStamp;
 import hexlet.code.dto.label.LabelCreateDTO;
 import hexlet.code.dto.label.LabelDTO;
 import hexlet.code.dto.label.LabelUpdateDTO;
-import hexlet.code.exception.ForbiddenOperationException;
 import hexlet.code.exception.ResourceNotFoundException;
 import hexlet.code.mapper.LabelMapper;
+import hexlet.code.model.OutboxEvent;
 import hexlet.code.repository.LabelRepository;
-import hexlet.code.repository.TaskRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Service
 public class LabelService {
@@ -21,11 +26,18 @@ public class LabelService {
     private LabelRepository labelRepository;
 
     @Autowired
-    private TaskRepository taskRepository;
+    private CollectionVersions collectionVersions;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private DeletionGuard deletionGuard;
 
     @Autowired
     private LabelMapper labelMapper;
 
+    @Transactional(readOnly = true)
     public ResponseEntity<List<LabelDTO>> getAll() {
         var labels = labelRepository.findAll();
         var result =  labels.stream()
@@ -36,6 +48,16 @@ public class LabelService {
                 .body(result);
     }
 
+    public String getETag() {
+        return collectionVersions.eTag(CollectionVersions.LABELS);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<ResourceStamp> getStamp(Long id) {
+        return labelRepository.findStampById(id);
+    }
+
+    @Transactional(readOnly = true)
     public LabelDTO findById(Long id) {
         var label = labelRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Label with id " + id + " not found"));
@@ -43,26 +65,33 @@ public class LabelService {
         return dto;
     }
 
+    @Transactional
     public LabelDTO create(LabelCreateDTO labelData) {
         var label = labelMapper.map(labelData);
         labelRepository.save(label);
+        collectionVersions.bump(CollectionVersions.LABELS);
         var dto = labelMapper.map(label);
+        outboxService.record(CollectionVersions.LABELS, dto.getId(), OutboxEvent.CREATED, dto);
         return dto;
     }
 
+    @Transactional
     public LabelDTO update(LabelUpdateDTO labelData, Long id) {
         var label = labelRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Label with id " + id + " not found"));
         labelMapper.update(labelData, label);
         labelRepository.save(label);
+        collectionVersions.bump(CollectionVersions.LABELS);
         var dto = labelMapper.map(label);
+        outboxService.record(CollectionVersions.LABELS, dto.getId(), OutboxEvent.UPDATED, dto);
         return dto;
     }
 
+    @Transactional
     public void delete(Long id) {
-        if (!taskRepository.findAllByLabelId(id).isEmpty()) {
-            throw new ForbiddenOperationException("Forbidden operation");
-        }
+        deletionGuard.checkLabelDeletable(id);
         labelRepository.deleteById(id);
+        collectionVersions.bump(CollectionVersions.LABELS);
+        outboxService.record(CollectionVersions.LABELS, id, OutboxEvent.DELETED, Map.of("id", id));
     }
 }
@@ -0,0 +1,138 @@
+package hexlet.code.service;
+
+import hexlet.code.component.OutboxSink;
+import hexlet.code.dto.DomainEventDTO;
+import hexlet.code.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+@ConditionalOnProperty(name = "outbox.dispatcher.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxDispatcher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired(required = false)
+    private List<OutboxSink> sinks = List.of();
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${outbox.retention:7d}")
+    private Duration retention;
+
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final AtomicLong deadEvents = new AtomicLong();
+
+    private Counter dispatched;
+    private Counter failed;
+    private Counter dead;
+    private Timer lag;
+
+    @PostConstruct
+    public void init() {
+        dispatched = Counter.builder("outbox.dispatched")
+                .description("Outbox events delivered to all sinks")
+                .register(meterRegistry);
+        failed = Counter.builder("outbox.failed")
+                .description("Outbox delivery attempts that failed")
+                .register(meterRegistry);
+        dead = Counter.builder("outbox.dead")
+                .description("Outbox events that used up their delivery attempts")
+                .register(meterRegistry);
+        lag = Timer.builder("outbox.lag")
+                .description("Time between writing an outbox event and delivering it")
+                .register(meterRegistry);
+        Gauge.builder("outbox.pending", pending, AtomicLong::get)
+                .description("Outbox events waiting for delivery")
+                .register(meterRegistry);
+        Gauge.builder("outbox.oldest.pending.age", lagMillis, AtomicLong::get)
+                .description("Age in milliseconds of the oldest undelivered outbox event")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("outbox.dead.events", deadEvents, AtomicLong::get)
+                .description("Undelivered outbox events that will not be retried")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.dispatch-interval:1s}")
+    public void dispatch() {
+        var transaction = new TransactionTemplate(transactionManager);
+        Long afterId = 0L;
+        while (afterId != null) {
+            var from = afterId;
+            afterId = transaction.execute(status -> dispatchBatch(from));
+        }
+
+        pending.set(outboxEventRepository.countByProcessedAtIsNullAndAttemptsLessThan(maxAttempts));
+        deadEvents.set(outboxEventRepository.countByProcessedAtIsNullAndAttemptsGreaterThanEqual(maxAttempts));
+        lagMillis.set(outboxEventRepository.findOldestPendingCreatedAt(maxAttempts)
+                .map(createdAt -> Duration.between(createdAt, LocalDateTime.now()).toMillis())
+                .orElse(0L));
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.cleanup-interval:1h}")
+    public void cleanUp() {
+        outboxEventRepository.deleteProcessedBefore(LocalDateTime.now().minus(retention));
+    }
+
+    private Long dispatchBatch(long afterId) {
+        var events = outboxEventRepository.findByProcessedAtIsNullAndAttemptsLessThanAndIdGreaterThanOrderByIdAsc(
+                maxAttempts, afterId, Limit.of(batchSize));
+        for (var event : events) {
+            try {
+                var domainEvent = DomainEventDTO.of(event);
+                sinks.forEach(sink -> sink.deliver(domainEvent));
+            } catch (RuntimeException e) {
+                event.setAttempts(event.getAttempts() + 1);
+                event.setLastError(e.getClass().getName() + ": " + e.getMessage());
+                failed.increment();
+                if (event.getAttempts() >= maxAttempts) {
+                    dead.increment();
+                    LOGGER.warn("Giving up on outbox event {} ({} {} {}) after {} attempts: {}", event.getId(),
+                            event.getAggregateType(), event.getAggregateId(), event.getEventType(),
+                            event.getAttempts(), event.getLastError());
+                }
+                continue;
+            }
+            var now = LocalDateTime.now();
+            event.setProcessedAt(now);
+            dispatched.increment();
+            if (event.getCreatedAt() != null) {
+                lag.record(Duration.between(event.getCreatedAt(), now));
+            }
+        }
+        return events.size() == batchSize ? events.getLast().getId() : null;
+    }
+}
@@ -0,0 +1,233 @@
+package hexlet.code.service;
+
+import hexlet.code.component.CollectionVersions;
+import hexlet.code.component.LabelCache;
+import hexlet.code.dto.task.TaskBatchResultDTO;
+import hexlet.code.dto.task.TaskBatchUpdateDTO;
+import hexlet.code.dto.task.TaskChangedEvent;
+import hexlet.code.dto.task.TaskCreateDTO;
+import hexlet.code.exception.BadRequestException;
+import hexlet.code.mapper.TaskMapper;
+import hexlet.code.model.OutboxEvent;
+import hexlet.code.model.Task;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.Validator;
+import org.openapitools.jackson.nullable.JsonNullable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class TaskBatchService {
+
+    public static final int MAX_BATCH_SIZE = 10_000;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private CollectionVersions collectionVersions;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskMapper taskMapper;
+
+    @Autowired
+    private LabelCache labelCache;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int chunkSize;
+
+    public List<TaskBatchResultDTO> createAll(List<TaskCreateDTO> tasksData) {
+        checkSize(tasksData);
+        labelCache.findExistingIds(collectIds(tasksData, TaskCreateDTO::getTaskLabelIds));
+
+        var results = new ArrayList<TaskBatchResultDTO>(tasksData.size());
+        for (var from = 0; from < tasksData.size(); from += chunkSize) {
+            var chunk = tasksData.subList(from, Math.min(from + chunkSize, tasksData.size()));
+            results.addAll(createChunk(chunk, from));
+        }
+        collectionVersions.bump(CollectionVersions.TASKS);
+        return results;
+    }
+
+    public List<TaskBatchResultDTO> updateAll(List<TaskBatchUpdateDTO> tasksData) {
+        checkSize(tasksData);
+        labelCache.findExistingIds(collectIds(tasksData, taskData -> unwrap(taskData.getTaskLabelIds())));
+
+        var results = new ArrayList<TaskBatchResultDTO>(tasksData.size());
+        for (var from = 0; from < tasksData.size(); from += chunkSize) {
+            var chunk = tasksData.subList(from, Math.min(from + chunkSize, tasksData.size()));
+            results.addAll(updateChunk(chunk, from));
+        }
+        collectionVersions.bump(CollectionVersions.TASKS);
+        return results;
+    }
+
+    private List<TaskBatchResultDTO> createChunk(List<TaskCreateDTO> chunk, int offset) {
+        var results = new ArrayList<TaskBatchResultDTO>(chunk.size());
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                userRepository.findAllById(chunk.stream()
+                        .map(TaskCreateDTO::getAssigneeId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet()));
+
+                var tasks = new ArrayList<Task>(chunk.size());
+                for (var i = 0; i < chunk.size(); i++) {
+                    try {
+                        var taskData = chunk.get(i);
+                        checkConstraints(taskData);
+                        var task = taskMapper.map(taskData);
+                        checkConstraints(task);
+                        taskRepository.save(task);
+                        var dto = taskMapper.map(task);
+                        eventPublisher.publishEvent(TaskChangedEvent.created(dto));
+                        outboxService.record(CollectionVersions.TASKS, dto.getId(), OutboxEvent.CREATED, dto);
+                        tasks.add(task);
+                        results.add(null);
+                    } catch (BadRequestException e) {
+                        results.add(TaskBatchResultDTO.failure(offset + i, null, e.getMessage()));
+                    }
+                }
+                entityManager.flush();
+
+                var saved = tasks.iterator();
+                for (var i = 0; i < results.size(); i++) {
+                    if (results.get(i) == null) {
+                        var id = saved.next().getId();
+                        results.set(i, TaskBatchResultDTO.success(offset + i, id, TaskBatchResultDTO.Status.CREATED));
+                    }
+                }
+                entityManager.clear();
+            });
+        } catch (TransactionException | DataAccessException | PersistenceException e) {
+            return failChunk(chunk.size(), offset, e);
+        }
+        return results;
+    }
+
+    private List<TaskBatchResultDTO> updateChunk(List<TaskBatchUpdateDTO> chunk, int offset) {
+        var results = new ArrayList<TaskBatchResultDTO>(chunk.size());
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                var ids = chunk.stream()
+                        .map(TaskBatchUpdateDTO::getId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet());
+                var tasks = taskRepository.findAllWithAssociationsByIdIn(ids).stream()
+                        .collect(Collectors.toMap(Task::getId, Function.identity(), (first, second) -> first));
+                userRepository.findAllById(chunk.stream()
+                        .map(taskData -> unwrap(taskData.getAssigneeId()))
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet()));
+
+                for (var i = 0; i < chunk.size(); i++) {
+                    var taskData = chunk.get(i);
+                    var task = taskData.getId() != null ? tasks.get(taskData.getId()) : null;
+                    if (task == null) {
+                        var error = taskData.getId() == null
+                                ? "Task id is required"
+                                : "Task with id " + taskData.getId() + " not found";
+                        results.add(TaskBatchResultDTO.failure(offset + i, taskData.getId(), error));
+                        continue;
+                    }
+                    try {
+                        checkConstraints(taskData);
+                        var previous = taskMapper.map(task);
+                        taskMapper.update(task, taskData);
+                        checkConstraints(task);
+                        var dto = taskMapper.map(task);
+                        eventPublisher.publishEvent(TaskChangedEvent.updated(previous, dto));
+                        outboxService.record(CollectionVersions.TASKS, dto.getId(), OutboxEvent.UPDATED, dto);
+                        results.add(TaskBatchResultDTO.success(offset + i, task.getId(),
+                                TaskBatchResultDTO.Status.UPDATED));
+                    } catch (BadRequestException e) {
+                        entityManager.detach(task);
+                        results.add(TaskBatchResultDTO.failure(offset + i, task.getId(), e.getMessage()));
+                    }
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        } catch (TransactionException | DataAccessException | PersistenceException e) {
+            return failChunk(chunk.size(), offset, e);
+        }
+        return results;
+    }
+
+    private List<TaskBatchResultDTO> failChunk(int size, int offset, RuntimeException e) {
+        entityManager.clear();
+        var results = new ArrayList<TaskBatchResultDTO>(size);
+        for (var i = 0; i < size; i++) {
+            results.add(TaskBatchResultDTO.failure(offset + i, null, e.getMessage()));
+        }
+        return results;
+    }
+
+    private void checkConstraints(Object value) {
+        var violations = validator.validate(value);
+        if (!violations.isEmpty()) {
+            var message = violations.stream()
+                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                    .collect(Collectors.joining(", "));
+            throw new BadRequestException(message);
+        }
+    }
+
+    private void checkSize(Collection<?> tasksData) {
+        if (tasksData.isEmpty() || tasksData.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestException("Batch must contain from 1 to " + MAX_BATCH_SIZE + " tasks");
+        }
+    }
+
+    private <T> Set<Long> collectIds(List<T> tasksData, Function<T, Set<Long>> getter) {
+        var ids = new HashSet<Long>();
+        for (var taskData : tasksData) {
+            var taskIds = getter.apply(taskData);
+            if (taskIds != null) {
+                ids.addAll(taskIds);
+            }
+        }
+        return ids;
+    }
+
+    private static <T> T unwrap(JsonNullable<T> value) {
+        return value != null ? value.orElse(null) : null;
+    }
+}
@@ -0,0 +1,155 @@
+package hexlet.code.service;
+
+import hexlet.code.dto.task.TaskChangedEvent;
+import hexlet.code.dto.task.TaskDTO;
+import hexlet.code.dto.task.TaskParamsDTO;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+@Service
+public class TaskEventService {
+
+    private static final String EVENT_NAME = "task";
+    private static final String RESET_EVENT_NAME = "reset";
+
+    @Value("${task.events.replay-size:1000}")
+    private int replaySize;
+
+    @Value("${task.events.subscriber-buffer-size:256}")
+    private int subscriberBufferSize;
+
+    @Value("${task.events.heartbeat:15s}")
+    private Duration heartbeat;
+
+    @Value("${task.events.timeout:30m}")
+    private Duration timeout;
+
+    private final Deque<Envelope> replay = new ArrayDeque<>();
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private long lastEventId;
+
+    public SseEmitter subscribe(TaskParamsDTO params, Long lastSeenEventId) {
+        var emitter = new SseEmitter(timeout.toMillis());
+        var subscriber = new Subscriber(params, emitter, new ArrayBlockingQueue<>(subscriberBufferSize));
+
+        synchronized (replay) {
+            if (lastSeenEventId != null) {
+                var oldest = replay.isEmpty() ? lastEventId + 1 : replay.peekFirst().id();
+                if (lastSeenEventId > lastEventId || lastSeenEventId + 1 < oldest) {
+                    subscriber.queue().offer(new Envelope(lastEventId, null));
+                }
+                replay.stream()
+                        .filter(envelope -> envelope.id() > lastSeenEventId)
+                        .filter(envelope -> subscriber.accepts(envelope.event()))
+                        .forEach(envelope -> subscriber.queue().offer(envelope));
+            }
+            subscribers.add(subscriber);
+        }
+
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> subscribers.remove(subscriber));
+        Thread.ofVirtual().name("task-events").start(() -> drain(subscriber));
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        var overflowed = new ArrayList<Subscriber>();
+        synchronized (replay) {
+            var envelope = new Envelope(++lastEventId, event);
+            replay.addLast(envelope);
+            if (replay.size() > replaySize) {
+                replay.removeFirst();
+            }
+            for (var subscriber : subscribers) {
+                if (subscriber.accepts(event) && !subscriber.queue().offer(envelope)) {
+                    overflowed.add(subscriber);
+                }
+            }
+        }
+        overflowed.forEach(subscriber -> {
+            subscribers.remove(subscriber);
+            subscriber.emitter().complete();
+        });
+    }
+
+    @PreDestroy
+    public void completeAll() {
+        subscribers.forEach(subscriber -> subscriber.emitter().complete());
+        subscribers.clear();
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            while (subscribers.contains(subscriber)) {
+                var envelope = subscriber.queue().poll(heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+                if (envelope == null) {
+                    subscriber.emitter().send(SseEmitter.event().comment("heartbeat"));
+                } else if (envelope.event() == null) {
+                    subscriber.emitter().send(SseEmitter.event()
+                            .id(String.valueOf(envelope.id()))
+                            .name(RESET_EVENT_NAME)
+                            .data("{}", MediaType.APPLICATION_JSON));
+                } else {
+                    subscriber.emitter().send(SseEmitter.event()
+                            .id(String.valueOf(envelope.id()))
+                            .name(EVENT_NAME)
+                            .data(envelope.event(), MediaType.APPLICATION_JSON));
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            subscribers.remove(subscriber);
+            subscriber.emitter().completeWithError(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            subscribers.remove(subscriber);
+            subscriber.emitter().complete();
+        }
+    }
+
+    private record Envelope(long id, TaskChangedEvent event) {
+    }
+
+    private record Subscriber(TaskParamsDTO params, SseEmitter emitter, BlockingQueue<Envelope> queue) {
+
+        boolean accepts(TaskChangedEvent event) {
+            return matches(event.task()) || matches(event.previous());
+        }
+
+        private boolean matches(TaskDTO task) {
+            if (task == null) {
+                return false;
+            }
+            var titleCont = params.getTitleCont();
+            if (titleCont != null
+                    && (task.getTitle() == null || !task.getTitle().toLowerCase().contains(titleCont.toLowerCase()))) {
+                return false;
+            }
+            if (params.getAssigneeId() != null && !params.getAssigneeId().equals(task.getAssigneeId())) {
+                return false;
+            }
+            if (params.getStatusSlug() != null && !params.getStatusSlug().equals(task.getStatus())) {
+                return false;
+            }
+            var labelIds = task.getTaskLabelIds() != null ? task.getTaskLabelIds() : Set.<Long>of();
+            return params.getLabelId() == null || labelIds.contains(params.getLabelId());
+        }
+    }
+}
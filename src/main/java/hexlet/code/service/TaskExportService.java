@@ -0,0 +1,163 @@
+package hexlet.code.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.dto.task.TaskDTO;
+import hexlet.code.dto.task.TaskParamsDTO;
+import hexlet.code.exception.BadRequestException;
+import hexlet.code.mapper.TaskMapper;
+import hexlet.code.model.Task;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.specification.TaskSpecification;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.JoinType;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Service
+public class TaskExportService {
+
+    public static final String NDJSON = "ndjson";
+    public static final String CSV = "csv";
+
+    private static final MediaType NDJSON_TYPE = MediaType.parseMediaType("application/x-ndjson");
+    private static final MediaType CSV_TYPE = MediaType.parseMediaType("text/csv;charset=UTF-8");
+    private static final String CSV_HEADER = "id,title,content,status,assigneeId,index,createdAt,labelIds";
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskMapper taskMapper;
+
+    @Autowired
+    private TaskSpecification specBuilder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${task.export.fetch-size:500}")
+    private int fetchSize;
+
+    public ResponseEntity<StreamingResponseBody> export(TaskParamsDTO params, String format) {
+        if (!NDJSON.equals(format) && !CSV.equals(format)) {
+            throw new BadRequestException("Unsupported export format " + format);
+        }
+        var csv = CSV.equals(format);
+        var spec = specBuilder.build(params);
+
+        var transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        StreamingResponseBody body = outputStream ->
+                transaction.executeWithoutResult(status -> write(outputStream, spec, csv));
+
+        var disposition = ContentDisposition.attachment().filename("tasks." + format).build();
+        return ResponseEntity.ok()
+                .contentType(csv ? CSV_TYPE : NDJSON_TYPE)
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(body);
+    }
+
+    private void write(OutputStream outputStream, Specification<Task> spec, boolean csv) {
+        var writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        try (var tasks = stream(spec)) {
+            if (csv) {
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+            }
+            var chunk = new ArrayList<Task>(fetchSize);
+            var iterator = tasks.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == fetchSize) {
+                    writeChunk(writer, chunk, csv);
+                }
+            }
+            writeChunk(writer, chunk, csv);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Stream<Task> stream(Specification<Task> spec) {
+        var cb = entityManager.getCriteriaBuilder();
+        var query = cb.createQuery(Task.class);
+        var root = query.from(Task.class);
+        root.fetch("taskStatus");
+        root.fetch("assignee", JoinType.LEFT);
+        query.where(spec.toPredicate(root, query, cb));
+        query.orderBy(cb.asc(root.get("id")));
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private void writeChunk(Writer writer, List<Task> chunk, boolean csv) throws IOException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        var labelIds = taskRepository.findLabelIdsByTaskIds(chunk.stream().map(Task::getId).toList());
+        for (var task : chunk) {
+            var dto = taskMapper.mapWithoutLabels(task);
+            dto.setTaskLabelIds(labelIds.getOrDefault(task.getId(), Set.of()));
+            writer.write(csv ? toCsv(dto) : objectMapper.writeValueAsString(dto));
+            writer.write('\n');
+        }
+        writer.flush();
+        chunk.clear();
+        entityManager.clear();
+    }
+
+    private static String toCsv(TaskDTO dto) {
+        var labelIds = dto.getTaskLabelIds().stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(";"));
+        return Arrays.stream(new Object[] {
+                    dto.getId(), dto.getTitle(), dto.getContent(), dto.getStatus(),
+                    dto.getAssigneeId(), dto.getIndex(), dto.getCreatedAt(), labelIds})
+                .map(TaskExportService::toCsvField)
+                .collect(Collectors.joining(","));
+    }
+
+    private static String toCsvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        var text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return "\"" + text.replace("\"", "\"\"") + "\"";
+    }
+}
@@ -0,0 +1,373 @@
+package hexlet.code.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import hexlet.code.component.CollectionVersions;
+import hexlet.code.dto.task.TaskChangedEvent;
+import hexlet.code.dto.task.TaskCreateDTO;
+import hexlet.code.dto.task.TaskImportErrorDTO;
+import hexlet.code.dto.task.TaskImportProgressDTO;
+import hexlet.code.exception.BadRequestException;
+import hexlet.code.mapper.TaskMapper;
+import hexlet.code.model.Label;
+import hexlet.code.model.OutboxEvent;
+import hexlet.code.model.Task;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.model.User;
+import hexlet.code.repository.LabelRepository;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.TaskStatusRepository;
+import hexlet.code.repository.UserRepository;
+import hexlet.code.util.CsvReader;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class TaskImportService {
+
+    private static final MediaType NDJSON_TYPE = MediaType.parseMediaType("application/x-ndjson");
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+
+    @Autowired
+    private LabelRepository labelRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CollectionVersions collectionVersions;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private TaskMapper taskMapper;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${task.import.chunk-size:1000}")
+    private int chunkSize;
+
+    public ResponseEntity<StreamingResponseBody> importTasks(InputStream input, String format) {
+        if (!TaskExportService.NDJSON.equals(format) && !TaskExportService.CSV.equals(format)) {
+            throw new BadRequestException("Unsupported import format " + format);
+        }
+        StreamingResponseBody body = outputStream -> run(input, format, outputStream);
+        return ResponseEntity.ok().contentType(NDJSON_TYPE).body(body);
+    }
+
+    private void run(InputStream input, String format, OutputStream outputStream) throws IOException {
+        var reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        var writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        var source = TaskExportService.CSV.equals(format) ? new CsvSource(reader) : new NdjsonSource(reader);
+        var importRun = new ImportRun(writer);
+
+        var chunk = new ArrayList<Row>(chunkSize);
+        for (var row = source.next(); row != null; row = source.next()) {
+            chunk.add(row);
+            if (chunk.size() == chunkSize) {
+                importRun.writeChunk(chunk);
+            }
+        }
+        importRun.writeChunk(chunk);
+        importRun.writeProgress(true);
+    }
+
+    private record Row(long number, TaskCreateDTO data, String error) {
+    }
+
+    private interface RowSource {
+        Row next() throws IOException;
+    }
+
+    private final class NdjsonSource implements RowSource {
+
+        private final BufferedReader reader;
+        private final ObjectReader objectReader = objectMapper.readerFor(TaskCreateDTO.class);
+        private long number;
+
+        NdjsonSource(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public Row next() throws IOException {
+            var line = reader.readLine();
+            while (line != null && line.isBlank()) {
+                line = reader.readLine();
+            }
+            if (line == null) {
+                return null;
+            }
+            number++;
+            try {
+                return new Row(number, objectReader.readValue(line), null);
+            } catch (JsonProcessingException e) {
+                return new Row(number, null, "Invalid JSON: " + e.getOriginalMessage());
+            }
+        }
+    }
+
+    private static final class CsvSource implements RowSource {
+
+        private final CsvReader reader;
+        private final Map<String, Integer> columns = new HashMap<>();
+        private long number;
+
+        CsvSource(BufferedReader reader) throws IOException {
+            this.reader = new CsvReader(reader);
+            var header = this.reader.next();
+            if (header != null) {
+                for (var i = 0; i < header.size(); i++) {
+                    columns.put(header.get(i).trim(), i);
+                }
+            }
+        }
+
+        @Override
+        public Row next() throws IOException {
+            if (columns.isEmpty()) {
+                return null;
+            }
+            var fields = reader.next();
+            while (fields != null && fields.size() == 1 && fields.get(0).isBlank()) {
+                fields = reader.next();
+            }
+            if (fields == null) {
+                return null;
+            }
+            number++;
+            try {
+                var data = new TaskCreateDTO();
+                data.setTitle(get(fields, "title"));
+                data.setContent(get(fields, "content"));
+                data.setStatus(get(fields, "status"));
+                var assigneeId = get(fields, "assigneeId");
+                data.setAssigneeId(assigneeId != null ? Long.valueOf(assigneeId) : null);
+                var index = get(fields, "index");
+                data.setIndex(index != null ? Integer.valueOf(index) : null);
+                var labelIds = get(fields, "labelIds");
+                data.setTaskLabelIds(labelIds != null ? parseIds(labelIds) : null);
+                return new Row(number, data, null);
+            } catch (NumberFormatException e) {
+                return new Row(number, null, "Invalid number: " + e.getMessage());
+            }
+        }
+
+        private String get(List<String> fields, String column) {
+            var index = columns.get(column);
+            if (index == null || index >= fields.size() || fields.get(index).isEmpty()) {
+                return null;
+            }
+            return fields.get(index);
+        }
+
+        private static Set<Long> parseIds(String value) {
+            return Arrays.stream(value.split(";"))
+                    .map(String::trim)
+                    .filter(id -> !id.isEmpty())
+                    .map(Long::valueOf)
+                    .collect(Collectors.toSet());
+        }
+    }
+
+    private final class ImportRun {
+
+        private final Writer writer;
+        private final Map<String, TaskStatus> statuses;
+        private final Map<Long, Label> labels;
+        private final Set<Long> assigneeIds = new HashSet<>();
+        private long processed;
+        private long imported;
+        private long failed;
+
+        ImportRun(Writer writer) {
+            this.writer = writer;
+            this.statuses = taskStatusRepository.findAll().stream()
+                    .collect(Collectors.toMap(TaskStatus::getSlug, Function.identity()));
+            this.labels = labelRepository.findAll().stream()
+                    .collect(Collectors.toMap(Label::getId, Function.identity()));
+        }
+
+        void writeChunk(List<Row> chunk) throws IOException {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            resolveAssignees(chunk);
+
+            var errors = new ArrayList<TaskImportErrorDTO>();
+            int saved;
+            try {
+                saved = new TransactionTemplate(transactionManager).execute(status -> save(chunk, errors));
+            } catch (TransactionException | DataAccessException | PersistenceException e) {
+                entityManager.clear();
+                saved = 0;
+                errors.clear();
+                for (var row : chunk) {
+                    var error = row.error() != null ? row.error() : e.getMessage();
+                    errors.add(new TaskImportErrorDTO(row.number(), error));
+                }
+            }
+
+            for (var error : errors) {
+                writeLine(error);
+            }
+            processed += chunk.size();
+            imported += saved;
+            failed += errors.size();
+            chunk.clear();
+            writeProgress(false);
+        }
+
+        void writeProgress(boolean done) throws IOException {
+            writeLine(new TaskImportProgressDTO(processed, imported, failed, done));
+            writer.flush();
+        }
+
+        private int save(List<Row> chunk, List<TaskImportErrorDTO> errors) {
+            var count = 0;
+            for (var row : chunk) {
+                if (row.error() != null) {
+                    errors.add(new TaskImportErrorDTO(row.number(), row.error()));
+                    continue;
+                }
+                try {
+                    var task = toTask(row.data());
+                    checkConstraints(task);
+                    taskRepository.save(task);
+                    var dto = taskMapper.map(task);
+                    eventPublisher.publishEvent(TaskChangedEvent.created(dto));
+                    outboxService.record(CollectionVersions.TASKS, dto.getId(), OutboxEvent.CREATED, dto);
+                    count++;
+                } catch (BadRequestException e) {
+                    errors.add(new TaskImportErrorDTO(row.number(), e.getMessage()));
+                }
+            }
+            if (count > 0) {
+                collectionVersions.bump(CollectionVersions.TASKS);
+            }
+            entityManager.flush();
+            entityManager.clear();
+            return count;
+        }
+
+        private void resolveAssignees(List<Row> chunk) {
+            var missingIds = chunk.stream()
+                    .map(Row::data)
+                    .filter(Objects::nonNull)
+                    .map(TaskCreateDTO::getAssigneeId)
+                    .filter(id -> id != null && !assigneeIds.contains(id))
+                    .collect(Collectors.toSet());
+            if (!missingIds.isEmpty()) {
+                assigneeIds.addAll(userRepository.findIdsByIdIn(missingIds));
+            }
+        }
+
+        private Task toTask(TaskCreateDTO data) {
+            var task = new Task();
+            task.setName(data.getTitle());
+            task.setDescription(data.getContent());
+            task.setTaskIndex(data.getIndex());
+
+            if (data.getStatus() == null) {
+                throw new BadRequestException("Task status is required");
+            }
+            var taskStatus = statuses.get(data.getStatus());
+            if (taskStatus == null) {
+                throw new BadRequestException("Task status with slug " + data.getStatus() + " not found");
+            }
+            task.setTaskStatus(taskStatus);
+
+            var assigneeId = data.getAssigneeId();
+            if (assigneeId != null) {
+                if (!assigneeIds.contains(assigneeId)) {
+                    throw new BadRequestException("User with id " + assigneeId + " not found");
+                }
+                task.setAssignee(entityManager.getReference(User.class, assigneeId));
+            }
+
+            if (data.getTaskLabelIds() != null) {
+                var unknownIds = new ArrayList<Long>();
+                for (var labelId : data.getTaskLabelIds()) {
+                    var label = labels.get(labelId);
+                    if (label != null) {
+                        task.addLabel(label);
+                    } else {
+                        unknownIds.add(labelId);
+                    }
+                }
+                if (!unknownIds.isEmpty()) {
+                    throw new BadRequestException("Labels with ids " + unknownIds + " not found");
+                }
+            }
+            return task;
+        }
+
+        private void checkConstraints(Task task) {
+            var violations = validator.validate(task);
+            if (!violations.isEmpty()) {
+                var message = violations.stream()
+                        .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                        .collect(Collectors.joining(", "));
+                throw new BadRequestException(message);
+            }
+        }
+
+        private void writeLine(Object value) throws IOException {
+            writer.write(objectMapper.writeValueAsString(value));
+            writer.write('\n');
+        }
+    }
+}
@@ -1,66 +1,218 @@
 package hexlet.code.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.component.CollectionVersions;
+import hexlet.code.dto.ResourceStamp;
+import hexlet.code.dto.task.TaskChangedEvent;
 import hexlet.code.dto.task.TaskCreateDTO;
+import hexlet.code.dto.task.TaskCursor;
 import hexlet.code.dto.task.TaskDTO;
+import hexlet.code.dto.task.TaskPageParamsDTO;
 import hexlet.code.dto.task.TaskParamsDTO;
+import hexlet.code.dto.task.TaskRowDTO;
 import hexlet.code.dto.task.TaskUpdateDTO;
 import hexlet.code.exception.ResourceNotFoundException;
 import hexlet.code.mapper.TaskMapper;
+import hexlet.code.model.OutboxEvent;
+import hexlet.code.model.Task;
 import hexlet.code.repository.TaskRepository;
 import hexlet.code.specification.TaskSpecification;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Service
 public class TaskService {
 
+    private static final int DEFAULT_PAGE_LIMIT = 50;
+    private static final int PAGE_CHUNK_SIZE = 100;
+
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private CollectionVersions collectionVersions;
+
+    @Autowired
+    private OutboxService outboxService;
+
     @Autowired
     private TaskMapper taskMapper;
 
     @Autowired
     private TaskSpecification specBuilder;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional(readOnly = true)
     public ResponseEntity<List<TaskDTO>> getAll(TaskParamsDTO params) {
         var spec = specBuilder.build(params);
-        var tasks = taskRepository.findAll(spec);
-        var result =  tasks.stream()
-                .map(taskMapper::map)
-                .toList();
+        var result = toDtos(taskRepository.findRows(spec, specBuilder.order(params)));
         return ResponseEntity.ok()
-                .header("X-Total-Count", String.valueOf(tasks.size()))
+                .header("X-Total-Count", String.valueOf(result.size()))
                 .body(result);
     }
 
+    public String getETag() {
+        return collectionVersions.eTag(CollectionVersions.TASKS, CollectionVersions.TASK_STATUSES);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<ResourceStamp> getStamp(Long id) {
+        return taskRepository.findStampById(id);
+    }
+
+    public ResponseEntity<StreamingResponseBody> getPage(TaskParamsDTO params, TaskPageParamsDTO page) {
+        var filter = specBuilder.build(params);
+        var spec = filter.and(specBuilder.after(TaskCursor.decode(page.getAfter())));
+        var limit = page.getLimit() != null ? page.getLimit() : DEFAULT_PAGE_LIMIT;
+
+        var response = ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON);
+        if (page.isWithTotalCount()) {
+            response.header("X-Total-Count", String.valueOf(taskRepository.count(filter)));
+        }
+
+        var transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        StreamingResponseBody body = outputStream ->
+                transaction.executeWithoutResult(status -> writePage(outputStream, spec, limit));
+        return response.body(body);
+    }
+
+    @Transactional(readOnly = true)
     public TaskDTO findById(Long id) {
-        var task = taskRepository.findById(id)
+        var row = taskRepository.findRowById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task with id " + id + " not found"));
-        var dto = taskMapper.map(task);
-        return dto;
+        return toDtos(List.of(row)).get(0);
     }
 
+    @Transactional
     public TaskDTO create(TaskCreateDTO taskData) {
         var task = taskMapper.map(taskData);
         taskRepository.save(task);
+        collectionVersions.bump(CollectionVersions.TASKS);
         var dto = taskMapper.map(task);
+        eventPublisher.publishEvent(TaskChangedEvent.created(dto));
+        outboxService.record(CollectionVersions.TASKS, dto.getId(), OutboxEvent.CREATED, dto);
         return dto;
     }
 
+    @Transactional
     public TaskDTO update(TaskUpdateDTO taskData, Long id) {
         var task = taskRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task with id " + id + " not found"));
+        var previous = taskMapper.map(task);
         taskMapper.update(task, taskData);
         taskRepository.save(task);
+        collectionVersions.bump(CollectionVersions.TASKS);
         var dto = taskMapper.map(task);
+        eventPublisher.publishEvent(TaskChangedEvent.updated(previous, dto));
+        outboxService.record(CollectionVersions.TASKS, dto.getId(), OutboxEvent.UPDATED, dto);
         return dto;
     }
 
+    @Transactional
     public void delete(Long id) {
-        taskRepository.deleteById(id);
+        taskRepository.findById(id).ifPresent(task -> {
+            var previous = taskMapper.map(task);
+            taskRepository.delete(task);
+            collectionVersions.bump(CollectionVersions.TASKS);
+            outboxService.record(CollectionVersions.TASKS, id, OutboxEvent.DELETED, previous);
+            eventPublisher.publishEvent(TaskChangedEvent.deleted(previous));
+        });
+    }
+
+    private void writePage(OutputStream outputStream, Specification<Task> spec, int limit) {
+        try (Stream<Task> tasks = taskRepository.findBy(spec, query -> query
+                .project("taskStatus", "assignee")
+                .sortBy(TaskCursor.SORT)
+                .limit(limit + 1)
+                .stream())) {
+            var generator = objectMapper.createGenerator(outputStream);
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("data");
+
+            var iterator = tasks.iterator();
+            var chunk = new ArrayList<Task>(Math.min(limit, PAGE_CHUNK_SIZE));
+            var written = 0;
+            TaskCursor last = null;
+            TaskCursor next = null;
+            while (iterator.hasNext()) {
+                var task = iterator.next();
+                if (written == limit) {
+                    next = last;
+                    break;
+                }
+                chunk.add(task);
+                last = TaskCursor.of(task);
+                written++;
+                if (chunk.size() == PAGE_CHUNK_SIZE) {
+                    writeChunk(generator, chunk);
+                }
+            }
+            writeChunk(generator, chunk);
+
+            generator.writeEndArray();
+            generator.writeStringField("nextCursor", next != null ? next.encode() : null);
+            generator.writeEndObject();
+            generator.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeChunk(JsonGenerator generator, List<Task> chunk) throws IOException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        var labelIds = taskRepository.findLabelIdsByTaskIds(chunk.stream().map(Task::getId).toList());
+        for (var task : chunk) {
+            var dto = taskMapper.mapWithoutLabels(task);
+            dto.setTaskLabelIds(labelIds.getOrDefault(task.getId(), new HashSet<>()));
+            generator.writeObject(dto);
+        }
+        generator.flush();
+        chunk.clear();
+        entityManager.clear();
+    }
+
+    private List<TaskDTO> toDtos(List<TaskRowDTO> rows) {
+        var labelIds = taskRepository.findLabelIdsByTaskIds(rows.stream().map(TaskRowDTO::id).toList());
+        var result = new ArrayList<TaskDTO>(rows.size());
+        for (var row : rows) {
+            var dto = taskMapper.map(row);
+            dto.setTaskLabelIds(labelIds.getOrDefault(row.id(), new HashSet<>()));
+            result.add(dto);
+        }
+        return result;
     }
 }
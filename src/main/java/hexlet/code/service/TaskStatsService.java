@@ -0,0 +1,47 @@
+package hexlet.code.service;
+
+import hexlet.code.component.TaskStatsCounters;
+import hexlet.code.dto.task.TaskCountDTO;
+import hexlet.code.dto.task.TaskStatsDTO;
+import hexlet.code.repository.TaskRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class TaskStatsService {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ObjectProvider<TaskStatsCounters> taskStatsCounters;
+
+    public TaskStatsDTO getStats() {
+        var counters = taskStatsCounters.getIfAvailable();
+        return counters != null ? counters.snapshot() : query();
+    }
+
+    @Transactional(readOnly = true)
+    public TaskStatsDTO query() {
+        var stats = new TaskStatsDTO();
+        stats.setTotal(taskRepository.count());
+        stats.setByStatus(toMap(taskRepository.countByStatus()));
+        stats.setByAssignee(toMap(taskRepository.countByAssignee()));
+        stats.setByLabel(toMap(taskRepository.countByLabel()));
+        return stats;
+    }
+
+    private static Map<String, Long> toMap(List<TaskCountDTO> counts) {
+        var result = new HashMap<String, Long>();
+        for (var count : counts) {
+            result.put(count.key() != null ? count.key() : TaskStatsDTO.UNASSIGNED, count.count());
+        }
+        return result;
+    }
+}
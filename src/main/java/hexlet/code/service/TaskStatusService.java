@@ -1,18 +1,24 @@
 package hexlet.code.service;
 
+import hexlet.code.component.CollectionVersions;
+import hexlet.code.component.DeletionGuard;
+import hexlet.code.component.TaskStatusCache;
+import hexlet.code.dto.ResourceStamp;
 import hexlet.code.dto.task_status.TaskStatusCreateDTO;
 import hexlet.code.dto.task_status.TaskStatusDTO;
 import hexlet.code.dto.task_status.TaskStatusUpdateDTO;
-import hexlet.code.exception.ForbiddenOperationException;
 import hexlet.code.exception.ResourceNotFoundException;
 import hexlet.code.mapper.TaskStatusMapper;
-import hexlet.code.repository.TaskRepository;
+import hexlet.code.model.OutboxEvent;
 import hexlet.code.repository.TaskStatusRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Service
 public class TaskStatusService {
@@ -21,11 +27,21 @@ public class TaskStatusService {
     private TaskStatusRepository taskStatusRepository;
 
     @Autowired
-    private TaskRepository taskRepository;
+    private CollectionVersions collectionVersions;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private DeletionGuard deletionGuard;
 
     @Autowired
     private TaskStatusMapper taskStatusMapper;
 
+    @Autowired
+    private TaskStatusCache taskStatusCache;
+
+    @Transactional(readOnly = true)
     public ResponseEntity<List<TaskStatusDTO>> getAll() {
         var taskStatuses = taskStatusRepository.findAll();
         var result =  taskStatuses.stream()
@@ -36,6 +52,16 @@ public class TaskStatusService {
                 .body(result);
     }
 
+    public String getETag() {
+        return collectionVersions.eTag(CollectionVersions.TASK_STATUSES);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<ResourceStamp> getStamp(Long id) {
+        return taskStatusRepository.findStampById(id);
+    }
+
+    @Transactional(readOnly = true)
     public TaskStatusDTO findById(Long id) {
         var taskStatus = taskStatusRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task Status with id " + id + " not found"));
@@ -43,26 +69,36 @@ public class TaskStatusService {
         return dto;
     }
 
+    @Transactional
     public TaskStatusDTO create(TaskStatusCreateDTO taskStatusData) {
         var taskStatus = taskStatusMapper.map(taskStatusData);
         taskStatusRepository.save(taskStatus);
+        taskStatusCache.evictAll();
+        collectionVersions.bump(CollectionVersions.TASK_STATUSES);
         var dto = taskStatusMapper.map(taskStatus);
+        outboxService.record(CollectionVersions.TASK_STATUSES, dto.getId(), OutboxEvent.CREATED, dto);
         return dto;
     }
 
+    @Transactional
     public TaskStatusDTO update(TaskStatusUpdateDTO taskStatusData, Long id) {
         var taskStatus = taskStatusRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task Status with id " + id + " not found"));
         taskStatusMapper.update(taskStatusData, taskStatus);
         taskStatusRepository.save(taskStatus);
+        taskStatusCache.evictAll();
+        collectionVersions.bump(CollectionVersions.TASK_STATUSES);
         var dto = taskStatusMapper.map(taskStatus);
+        outboxService.record(CollectionVersions.TASK_STATUSES, dto.getId(), OutboxEvent.UPDATED, dto);
         return dto;
     }
 
+    @Transactional
     public void delete(Long id) {
-        if (!taskRepository.findAllByTaskStatusId(id).isEmpty()) {
-            throw new ForbiddenOperationException("Forbidden operation");
-        }
+        deletionGuard.checkTaskStatusDeletable(id);
         taskStatusRepository.deleteById(id);
+        taskStatusCache.evictAll();
+        collectionVersions.bump(CollectionVersions.TASK_STATUSES);
+        outboxService.record(CollectionVersions.TASK_STATUSES, id, OutboxEvent.DELETED, Map.of("id", id));
     }
 }
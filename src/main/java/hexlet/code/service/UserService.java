@@ -1,35 +1,51 @@
 package hexlet.code.service;
 
+import hexlet.code.component.CollectionVersions;
+import hexlet.code.component.DeletionGuard;
+import hexlet.code.component.UserPrincipalCache;
+import hexlet.code.dto.ResourceStamp;
 import hexlet.code.dto.user.UserCreateDTO;
 import hexlet.code.dto.user.UserDTO;
 import hexlet.code.dto.user.UserUpdateDTO;
-import hexlet.code.exception.ForbiddenOperationException;
 import hexlet.code.exception.ResourceNotFoundException;
 import hexlet.code.mapper.UserMapper;
-import hexlet.code.model.User;
-import hexlet.code.repository.TaskRepository;
+import hexlet.code.model.OutboxEvent;
 import hexlet.code.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Service
-public class UserService implements UserDetailsService {
+public class UserService implements UserDetailsService, UserDetailsPasswordService {
 
     @Autowired
     private UserRepository userRepository;
 
     @Autowired
-    private TaskRepository taskRepository;
+    private CollectionVersions collectionVersions;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private DeletionGuard deletionGuard;
 
     @Autowired
     private UserMapper userMapper;
 
+    @Autowired
+    private UserPrincipalCache userPrincipalCache;
+
+    @Transactional(readOnly = true)
     public ResponseEntity<List<UserDTO>> getAll() {
         var users = userRepository.findAll();
         var result =  users.stream()
@@ -40,6 +56,16 @@ public class UserService implements UserDetailsService {
                 .body(result);
     }
 
+    public String getETag() {
+        return collectionVersions.eTag(CollectionVersions.USERS);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<ResourceStamp> getStamp(Long id) {
+        return userRepository.findStampById(id);
+    }
+
+    @Transactional(readOnly = true)
     public UserDTO findById(Long id) {
         var user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User with id " + id + " not found"));
@@ -47,27 +73,40 @@ public class UserService implements UserDetailsService {
         return dto;
     }
 
+    @Transactional
     public UserDTO create(UserCreateDTO userData) {
         var user = userMapper.map(userData);
         userRepository.save(user);
+        userPrincipalCache.put(user);
+        collectionVersions.bump(CollectionVersions.USERS);
         var dto = userMapper.map(user);
+        outboxService.record(CollectionVersions.USERS, dto.getId(), OutboxEvent.CREATED, dto);
         return dto;
     }
 
+    @Transactional
     public UserDTO update(UserUpdateDTO userData, Long id) {
         var user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User with id " + id + " not found"));
+        var previousEmail = user.getEmail();
         userMapper.update(userData, user);
         userRepository.save(user);
+        userPrincipalCache.evict(previousEmail);
+        collectionVersions.bump(CollectionVersions.USERS);
         var dto = userMapper.map(user);
+        outboxService.record(CollectionVersions.USERS, dto.getId(), OutboxEvent.UPDATED, dto);
         return dto;
     }
 
+    @Transactional
     public void delete(Long id) {
-        if (!taskRepository.findAllByAssigneeId(id).isEmpty()) {
-            throw new ForbiddenOperationException("Forbidden operation");
-        }
-        userRepository.deleteById(id);
+        deletionGuard.checkUserDeletable(id);
+        userRepository.findById(id).ifPresent(user -> {
+            userRepository.delete(user);
+            userPrincipalCache.evict(user.getEmail());
+            collectionVersions.bump(CollectionVersions.USERS);
+            outboxService.record(CollectionVersions.USERS, id, OutboxEvent.DELETED, Map.of("id", id));
+        });
     }
 
     @Override
@@ -77,9 +116,18 @@ public class UserService implements UserDetailsService {
         return user;
     }
 
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        var user = userRepository.findByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        user.setPasswordDigest(newPassword);
+        userRepository.save(user);
+        return user;
+    }
+
     public String getUserEmailById(Long id) {
-        return userRepository.findById(id)
-                .map(User::getEmail)
+        return userPrincipalCache.findEmailById(id)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
     }
 }
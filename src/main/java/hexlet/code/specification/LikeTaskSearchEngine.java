@@ -0,0 +1,16 @@
+package hexlet.code.specification;
+
+import hexlet.code.model.Task;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "task.search.engine", havingValue = "like", matchIfMissing = true)
+public class LikeTaskSearchEngine implements TaskSearchEngine {
+
+    @Override
+    public Specification<Task> titleContains(String term) {
+        return (root, query, cb) -> cb.like(cb.lower(root.get("name")), "%" + term.toLowerCase() + "%");
+    }
+}
@@ -0,0 +1,14 @@
+package hexlet.code.specification;
+
+import hexlet.code.model.Task;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Root;
+
+import java.util.List;
+
+@FunctionalInterface
+public interface TaskOrder {
+
+    List<Order> toOrders(Root<Task> root, CriteriaBuilder cb);
+}
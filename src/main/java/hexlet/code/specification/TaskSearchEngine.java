@@ -0,0 +1,15 @@
+package hexlet.code.specification;
+
+import hexlet.code.model.Task;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface TaskSearchEngine {
+
+    Specification<Task> titleContains(String term);
+
+    default TaskOrder relevance(String term) {
+        return (root, cb) -> List.of();
+    }
+}
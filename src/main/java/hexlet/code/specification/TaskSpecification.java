@@ -1,13 +1,25 @@
 package hexlet.code.specification;
 
+import hexlet.code.component.TaskStatusCache;
+import hexlet.code.dto.task.TaskCursor;
 import hexlet.code.dto.task.TaskParamsDTO;
 import hexlet.code.model.Task;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
+import java.util.List;
+
 @Component
 public class TaskSpecification {
 
+    @Autowired
+    private TaskStatusCache taskStatusCache;
+
+    @Autowired
+    private TaskSearchEngine taskSearchEngine;
+
     public Specification<Task> build(TaskParamsDTO params) {
         return withTitleCont(params.getTitleCont())
                 .and(withAssigneeId(params.getAssigneeId()))
@@ -15,10 +27,26 @@ public class TaskSpecification {
                 .and(withLabelId(params.getLabelId()));
     }
 
-    private Specification<Task> withTitleCont(String titleCont) {
-        return (root, query, cb) -> titleCont == null
+    public TaskOrder order(TaskParamsDTO params) {
+        return params.getTitleCont() == null
+                ? (root, cb) -> List.of()
+                : taskSearchEngine.relevance(params.getTitleCont());
+    }
+
+    public Specification<Task> after(TaskCursor cursor) {
+        return (root, query, cb) -> cursor == null
                 ? cb.conjunction()
-                : cb.like(cb.lower(root.get("name")), "%" + titleCont.toLowerCase() + "%");
+                : cb.or(
+                        cb.greaterThan(root.<LocalDate>get("createdAt"), cursor.createdAt()),
+                        cb.and(
+                                cb.equal(root.get("createdAt"), cursor.createdAt()),
+                                cb.greaterThan(root.<Long>get("id"), cursor.id())));
+    }
+
+    private Specification<Task> withTitleCont(String titleCont) {
+        return titleCont == null
+                ? (root, query, cb) -> cb.conjunction()
+                : taskSearchEngine.titleContains(titleCont);
     }
 
     private Specification<Task> withAssigneeId(Long assigneeId) {
@@ -30,7 +58,9 @@ public class TaskSpecification {
     private Specification<Task> withStatus(String status) {
         return (root, query, cb) -> status == null
                 ? cb.conjunction()
-                : cb.equal(root.get("taskStatus"), status);
+                : taskStatusCache.findIdBySlug(status)
+                        .map(taskStatusId -> cb.equal(root.get("taskStatus").get("id"), taskStatusId))
+                        .orElseGet(cb::disjunction);
     }
 
     private Specification<Task> withLabelId(Long labelId) {
@@ -0,0 +1,77 @@
+package hexlet.code.specification;
+
+import hexlet.code.model.Task;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "task.search.engine", havingValue = "trigram")
+public class TrigramTaskSearchEngine implements TaskSearchEngine {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TrigramTaskSearchEngine.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private volatile boolean available;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndex() {
+        if (!similarityAvailable()) {
+            try {
+                jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+            } catch (DataAccessException e) {
+                LOGGER.warn("Could not create the pg_trgm extension: {}", e.getMessage());
+            }
+        }
+        available = similarityAvailable();
+        if (!available) {
+            LOGGER.warn("similarity() is not available, title search falls back to LIKE without relevance ordering");
+            return;
+        }
+        try {
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS tasks_name_trgm_idx"
+                    + " ON tasks USING gin (lower(name) gin_trgm_ops)");
+        } catch (DataAccessException e) {
+            LOGGER.warn("Could not create tasks_name_trgm_idx, title search will scan tasks: {}", e.getMessage());
+        }
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    @Override
+    public Specification<Task> titleContains(String term) {
+        return (root, query, cb) -> cb.like(cb.lower(root.get("name")), "%" + term.toLowerCase() + "%");
+    }
+
+    @Override
+    public TaskOrder relevance(String term) {
+        return (root, cb) -> available
+                ? List.of(
+                        cb.desc(cb.function("similarity", Double.class,
+                                cb.lower(root.get("name")), cb.literal(term.toLowerCase()))),
+                        cb.asc(root.get("id")))
+                : List.of();
+    }
+
+    private boolean similarityAvailable() {
+        try {
+            jdbcTemplate.queryForObject("SELECT similarity('task', 'task')", Double.class);
+            return true;
+        } catch (DataAccessException e) {
+            return false;
+        }
+    }
+}
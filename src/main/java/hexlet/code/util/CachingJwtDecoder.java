@@ -0,0 +1,94 @@
+package hexlet.code.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final Cache<String, Jwt> cache;
+    private final Counter verifications;
+
+    public CachingJwtDecoder(JwtDecoder delegate, long maximumSize, Duration maximumTtl,
+                             MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry(maximumTtl))
+                .recordStats()
+                .build();
+        this.verifications = meterRegistry.counter("jwt.decoder.verifications");
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwtDecoder");
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        var key = hash(token);
+        var cached = cache.getIfPresent(key);
+        if (cached != null && !isExpired(cached)) {
+            return cached;
+        }
+        verifications.increment();
+        var jwt = delegate.decode(token);
+        cache.put(key, jwt);
+        return jwt;
+    }
+
+    private static boolean isExpired(Jwt jwt) {
+        return jwt.getExpiresAt() != null && !Instant.now().isBefore(jwt.getExpiresAt());
+    }
+
+    private static String hash(String token) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class TokenExpiry implements Expiry<String, Jwt> {
+
+        private final Duration maximumTtl;
+
+        private TokenExpiry(Duration maximumTtl) {
+            this.maximumTtl = maximumTtl;
+        }
+
+        @Override
+        public long expireAfterCreate(String key, Jwt jwt, long currentTime) {
+            if (jwt.getExpiresAt() == null) {
+                return maximumTtl.toNanos();
+            }
+            var untilExpiry = Duration.between(Instant.now(), jwt.getExpiresAt());
+            if (untilExpiry.isNegative()) {
+                return 0;
+            }
+            return untilExpiry.compareTo(maximumTtl) < 0 ? untilExpiry.toNanos() : maximumTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, jwt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
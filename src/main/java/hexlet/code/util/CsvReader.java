@@ -0,0 +1,71 @@
+package hexlet.code.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class CsvReader {
+
+    private final Reader reader;
+    private int lookahead = -2;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    public List<String> next() throws IOException {
+        var ch = read();
+        if (ch < 0) {
+            return null;
+        }
+        var fields = new ArrayList<String>();
+        var field = new StringBuilder();
+        var quoted = false;
+        while (true) {
+            if (quoted) {
+                if (ch < 0) {
+                    throw new IOException("Unterminated quoted field");
+                }
+                if (ch == '"') {
+                    var following = read();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        ch = following;
+                        continue;
+                    }
+                } else {
+                    field.append((char) ch);
+                }
+            } else if (ch < 0 || ch == '\n' || ch == '\r') {
+                if (ch == '\r') {
+                    var following = read();
+                    if (following != '\n') {
+                        lookahead = following;
+                    }
+                }
+                fields.add(field.toString());
+                return fields;
+            } else if (ch == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (ch == '"' && field.isEmpty()) {
+                quoted = true;
+            } else {
+                field.append((char) ch);
+            }
+            ch = read();
+        }
+    }
+
+    private int read() throws IOException {
+        if (lookahead != -2) {
+            var ch = lookahead;
+            lookahead = -2;
+            return ch;
+        }
+        return reader.read();
+    }
+}
@@ -0,0 +1,42 @@
+package hexlet.code.util;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import java.util.function.Supplier;
+
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private static final ThreadLocal<Boolean> PRIMARY_READS = new ThreadLocal<>();
+
+    private final Supplier<Route> router;
+
+    public ReadWriteRoutingDataSource(Supplier<Route> router) {
+        this.router = router;
+    }
+
+    public static <T> T readFromPrimary(Supplier<T> action) {
+        var nested = PRIMARY_READS.get() != null;
+        PRIMARY_READS.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (!nested) {
+                PRIMARY_READS.remove();
+            }
+        }
+    }
+
+    public static boolean isPrimaryRead() {
+        return PRIMARY_READS.get() != null;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return router.get();
+    }
+}
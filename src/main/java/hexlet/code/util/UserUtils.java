@@ -1,5 +1,6 @@
 package hexlet.code.util;
 
+import hexlet.code.component.UserPrincipalCache;
 import hexlet.code.model.User;
 import hexlet.code.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,12 +13,20 @@ public class UserUtils {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserPrincipalCache userPrincipalCache;
+
     public User getCurrentUser() {
+        var id = getCurrentUserId();
+        return id != null ? userRepository.getReferenceById(id) : null;
+    }
+
+    public Long getCurrentUserId() {
         var authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication == null || !authentication.isAuthenticated()) {
             return null;
         }
         var email = authentication.getName();
-        return userRepository.findByEmail(email).orElseThrow();
+        return userPrincipalCache.findIdByEmail(email).orElseThrow();
     }
 }
@@ -2,17 +2,37 @@ package hexlet.code.controller.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import hexlet.code.dto.AuthRequestDTO;
+import hexlet.code.exception.ServiceUnavailableException;
+import hexlet.code.model.User;
+import hexlet.code.repository.UserRepository;
+import hexlet.code.util.JWTUtils;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
-@SpringBootTest
+@SpringBootTest(properties = {
+    "security.password.hashing-threads=1",
+    "security.password.hashing-queue-capacity=1",
+    "security.password.hashing-timeout=1s"
+})
 @AutoConfigureMockMvc
 class AuthenticationControllerTest {
 
@@ -22,6 +42,18 @@ class AuthenticationControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private JWTUtils jwtUtils;
+
+    @Autowired
+    private JwtDecoder jwtDecoder;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
     @Test
     void loginTest() throws Exception {
 
@@ -38,4 +70,119 @@ class AuthenticationControllerTest {
         mockMvc.perform(request)
                 .andExpect(status().isOk());
     }
+
+    @Test
+    void decodedTokenIsReused() {
+
+        var token = jwtUtils.generateToken("hexlet@example.com");
+
+        var first = jwtDecoder.decode(token);
+        var second = jwtDecoder.decode(token);
+
+        assertEquals("hexlet@example.com", first.getSubject());
+        assertSame(first, second);
+    }
+
+    @Test
+    void testLoginUpgradesLegacyHash() throws Exception {
+
+        var email = "legacy@example.com";
+        userRepository.findByEmail(email).ifPresent(userRepository::delete);
+
+        var user = new User();
+        user.setEmail(email);
+        user.setPasswordDigest(new BCryptPasswordEncoder(4).encode("legacy-password"));
+        userRepository.save(user);
+
+        var authRequestDTO = new AuthRequestDTO();
+        authRequestDTO.setUsername(email);
+        authRequestDTO.setPassword("legacy-password");
+
+        var request = post("/api/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(authRequestDTO));
+
+        mockMvc.perform(request)
+                .andExpect(status().isOk());
+
+        var digest = userRepository.findByEmail(email).orElseThrow().getPasswordDigest();
+        assertTrue(digest.startsWith("{bcrypt}$2a$10$"));
+        assertTrue(passwordEncoder.matches("legacy-password", digest));
+    }
+
+    @Test
+    void testSaturatedHashingPoolReturns503() throws Exception {
+
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var blocked = CompletableFuture.runAsync(() -> passwordEncoder.encode(new BlockingPassword(started, release)));
+
+        try {
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            var authRequestDTO = new AuthRequestDTO();
+            authRequestDTO.setUsername("hexlet@example.com");
+            authRequestDTO.setPassword("qwerty");
+
+            var request = post("/api/login")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(authRequestDTO));
+
+            mockMvc.perform(request)
+                    .andExpect(status().isServiceUnavailable());
+            mockMvc.perform(get("/api/users").with(httpBasic("hexlet@example.com", "qwerty")))
+                    .andExpect(status().isServiceUnavailable());
+        } finally {
+            release.countDown();
+            blocked.exceptionally(e -> null).join();
+            awaitHashingPool();
+        }
+    }
+
+    private void awaitHashingPool() throws InterruptedException {
+        for (var attempt = 0; attempt < 50; attempt++) {
+            try {
+                passwordEncoder.encode("idle");
+                return;
+            } catch (ServiceUnavailableException e) {
+                Thread.sleep(100);
+            }
+        }
+    }
+
+    private record BlockingPassword(CountDownLatch started, CountDownLatch release) implements CharSequence {
+
+        @Override
+        public int length() {
+            return 0;
+        }
+
+        @Override
+        public char charAt(int index) {
+            throw new IndexOutOfBoundsException(index);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            started.countDown();
+            var interrupted = false;
+            while (true) {
+                try {
+                    release.await();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            return "blocked";
+        }
+    }
 }
@@ -1,20 +1,29 @@
 package hexlet.code.controller.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.component.InvocationMetricsAspect;
 import hexlet.code.dto.label.LabelDTO;
 import hexlet.code.mapper.LabelMapper;
 import hexlet.code.model.Label;
+import hexlet.code.model.OutboxEvent;
 import hexlet.code.repository.LabelRepository;
+import hexlet.code.repository.OutboxEventRepository;
 import hexlet.code.repository.TaskRepository;
 import hexlet.code.repository.TaskStatusRepository;
 import hexlet.code.repository.UserRepository;
+import hexlet.code.service.OutboxDispatcher;
 import hexlet.code.util.ModelGenerator;
+import hexlet.code.util.SqlStatementBudget;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
 import org.instancio.Instancio;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
 import org.springframework.test.web.servlet.MockMvc;
@@ -23,10 +32,12 @@ import org.springframework.web.context.WebApplicationContext;
 
 import java.util.HashMap;
 import java.util.List;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
@@ -67,6 +78,21 @@ class LabelsControllerTest {
     @Autowired
     private LabelMapper labelMapper;
 
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private SqlStatementBudget sqlStatementBudget;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     private SecurityMockMvcRequestPostProcessors.JwtRequestPostProcessor token;
     private Label testLabel;
 
@@ -121,6 +147,46 @@ class LabelsControllerTest {
                 .andExpect(jsonPath("$.name").value(testLabel.getName()));
     }
 
+    @Test
+    void testIndexNotModified() throws Exception {
+
+        var eTag = mockMvc.perform(get("/api/labels").with(jwt()))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        assertNotNull(eTag);
+
+        mockMvc.perform(get("/api/labels").with(jwt()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        var data = new HashMap<String, String>();
+        data.put("name", "renamed label");
+        mockMvc.perform(put("/api/labels/" + testLabel.getId())
+                        .with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(data)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/labels").with(jwt()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("renamed label"));
+    }
+
+    @Test
+    void testShowNotModified() throws Exception {
+
+        var eTag = mockMvc.perform(get("/api/labels/" + testLabel.getId()).with(jwt()))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        assertNotNull(eTag);
+
+        mockMvc.perform(get("/api/labels/" + testLabel.getId()).with(jwt()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+    }
+
     @Test
     void testCreate() throws Exception {
 
@@ -141,6 +207,55 @@ class LabelsControllerTest {
         assertNotNull(label);
     }
 
+    @Test
+    void testCreateBumpsCollectionVersion() throws Exception {
+
+        var before = objectMapper.readTree(mockMvc.perform(get("/api/versions").with(jwt()))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString());
+
+        var labelData = Instancio.of(modelGenerator.getLabelModel()).create();
+        mockMvc.perform(post("/api/labels")
+                        .with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(labelData)))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/versions").with(jwt()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.labels").value(before.get("labels").asLong() + 1))
+                .andExpect(jsonPath("$.tasks").value(before.get("tasks").asLong()));
+    }
+
+    @Test
+    void testCreateWritesOutboxEvent() throws Exception {
+
+        var labelData = Instancio.of(modelGenerator.getLabelModel()).create();
+        mockMvc.perform(post("/api/labels")
+                        .with(token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(labelData)))
+                .andExpect(status().isCreated());
+
+        var label = labelRepository.findByName(labelData.getName()).orElseThrow();
+        Supplier<OutboxEvent> findEvent = () -> outboxEventRepository.findAll().stream()
+                .filter(e -> "labels".equals(e.getAggregateType()) && label.getId().equals(e.getAggregateId()))
+                .findFirst()
+                .orElseThrow();
+
+        var deadline = System.currentTimeMillis() + 5_000;
+        while (findEvent.get().getProcessedAt() == null && System.currentTimeMillis() < deadline) {
+            outboxDispatcher.dispatch();
+        }
+
+        var event = findEvent.get();
+        assertEquals(OutboxEvent.CREATED, event.getEventType());
+        assertTrue(event.getPayload().contains(labelData.getName()));
+        assertNotNull(event.getProcessedAt());
+    }
+
     @Test
     void testUpdate() throws Exception {
 
@@ -201,4 +316,55 @@ class LabelsControllerTest {
 
         assertNotNull(label);
     }
+
+    @Test
+    void testShowRecordsMetrics() throws Exception {
+
+        var before = invocationCount("LabelService", "findById");
+
+        mockMvc.perform(get("/api/labels/" + testLabel.getId()).with(jwt()))
+                .andExpect(status().isOk());
+
+        assertEquals(before + 1, invocationCount("LabelService", "findById"));
+
+        var count = sqlStatementBudget.count(() -> labelRepository.findByName(testLabel.getName()));
+
+        assertEquals(1, count);
+    }
+
+    @Test
+    void testFindByIdUsesSecondLevelCache() throws Exception {
+
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        labelRepository.findById(testLabel.getId());
+        statistics.clear();
+
+        var count = sqlStatementBudget.count(() -> labelRepository.findById(testLabel.getId()));
+
+        assertEquals(0, count);
+        assertEquals(1, statistics.getDomainDataRegionStatistics("labels").getHitCount());
+    }
+
+    @Test
+    void testSecondLevelCacheEndpointIsReadOnly() throws Exception {
+
+        labelRepository.findById(testLabel.getId());
+
+        mockMvc.perform(get("/actuator/l2cache").with(token))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/actuator/l2cache/labels").with(token))
+                .andExpect(status().is4xxClientError());
+
+        assertTrue(entityManagerFactory.getCache().contains(Label.class, testLabel.getId()));
+    }
+
+    private long invocationCount(String className, String method) {
+        var timer = meterRegistry.find(InvocationMetricsAspect.METRIC)
+                .tag("class", className)
+                .tag("method", method)
+                .timer();
+        return timer != null ? timer.count() : 0;
+    }
 }
@@ -0,0 +1,99 @@
+package hexlet.code.controller.api;
+
+import hexlet.code.component.OutboxSink;
+import hexlet.code.dto.DomainEventDTO;
+import hexlet.code.model.OutboxEvent;
+import hexlet.code.repository.OutboxEventRepository;
+import hexlet.code.service.OutboxDispatcher;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@SpringBootTest(properties = {
+    "outbox.batch-size=1",
+    "outbox.max-attempts=2",
+    "outbox.dispatch-interval=1h"
+})
+class OutboxDispatcherTest {
+
+    private static final String POISON = "poison";
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void testFailingEventDoesNotBlockTheRestAndEndsUpDead() {
+        outboxDispatcher.dispatch();
+        var deadBefore = meterRegistry.get("outbox.dead").counter().count();
+
+        var poison = outboxEventRepository.save(createEvent(POISON));
+        var next = outboxEventRepository.save(createEvent("labels"));
+
+        outboxDispatcher.dispatch();
+
+        var failedOnce = outboxEventRepository.findById(poison.getId()).orElseThrow();
+        assertEquals(1, failedOnce.getAttempts());
+        assertNull(failedOnce.getProcessedAt());
+        assertNotNull(outboxEventRepository.findById(next.getId()).orElseThrow().getProcessedAt());
+        assertEquals(deadBefore, meterRegistry.get("outbox.dead").counter().count());
+        assertEquals(1, meterRegistry.get("outbox.pending").gauge().value());
+
+        outboxDispatcher.dispatch();
+
+        var exhausted = outboxEventRepository.findById(poison.getId()).orElseThrow();
+        assertEquals(2, exhausted.getAttempts());
+        assertNull(exhausted.getProcessedAt());
+        assertEquals(deadBefore + 1, meterRegistry.get("outbox.dead").counter().count());
+        assertEquals(1, meterRegistry.get("outbox.dead.events").gauge().value());
+        assertEquals(0, meterRegistry.get("outbox.pending").gauge().value());
+        assertEquals(0, meterRegistry.get("outbox.oldest.pending.age").gauge().value());
+
+        outboxDispatcher.dispatch();
+
+        assertEquals(2, outboxEventRepository.findById(poison.getId()).orElseThrow().getAttempts());
+        assertEquals(deadBefore + 1, meterRegistry.get("outbox.dead").counter().count());
+    }
+
+    private static OutboxEvent createEvent(String aggregateType) {
+        var event = new OutboxEvent();
+        event.setAggregateType(aggregateType);
+        event.setAggregateId(1L);
+        event.setEventType(OutboxEvent.CREATED);
+        event.setPayload("{}");
+        return event;
+    }
+
+    @TestConfiguration
+    static class PoisonSinkConfig {
+
+        @Bean
+        OutboxSink poisonSink() {
+            return new OutboxSink() {
+                @Override
+                public String getName() {
+                    return POISON;
+                }
+
+                @Override
+                public void deliver(DomainEventDTO event) {
+                    if (POISON.equals(event.aggregateType())) {
+                        throw new IllegalStateException("Cannot deliver " + event.id());
+                    }
+                }
+            };
+        }
+    }
+}
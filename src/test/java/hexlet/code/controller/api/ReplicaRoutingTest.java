@@ -0,0 +1,225 @@
+package hexlet.code.controller.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.component.CollectionVersions;
+import hexlet.code.component.H2ReplicaSnapshotter;
+import hexlet.code.component.ReplicaRouter;
+import hexlet.code.model.Label;
+import hexlet.code.model.User;
+import hexlet.code.repository.LabelRepository;
+import hexlet.code.repository.UserRepository;
+import hexlet.code.util.ModelGenerator;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.WebApplicationContext;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+    "datasource.replica.url=jdbc:h2:mem:replicatest;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+    "datasource.replica.username=sa",
+    "datasource.replica.password=",
+    "datasource.replica.max-lag=5s",
+    "datasource.replica.sticky-window=1m",
+    "datasource.replica.lag-check-interval=1h",
+    "datasource.replica.lag-query=SELECT DATEDIFF('MILLISECOND', taken_at, LOCALTIMESTAMP) / 1000.0"
+        + " FROM replica_snapshot",
+    "datasource.replica.h2-snapshot.enabled=true",
+    "datasource.replica.h2-snapshot.interval=1h",
+    "spring.jpa.open-in-view=false",
+    "outbox.dispatcher.enabled=false"
+})
+@AutoConfigureMockMvc
+class ReplicaRoutingTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ModelGenerator modelGenerator;
+
+    @Autowired
+    private LabelRepository labelRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CollectionVersions collectionVersions;
+
+    @Autowired
+    private H2ReplicaSnapshotter h2ReplicaSnapshotter;
+
+    @Autowired
+    private ReplicaRouter replicaRouter;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnlyTransaction;
+    private TransactionTemplate readWriteTransaction;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders
+                .webAppContextSetup(context)
+                .apply(springSecurity())
+                .build();
+
+        SecurityContextHolder.clearContext();
+        h2ReplicaSnapshotter.snapshot();
+        replicaRouter.checkLag();
+
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        readWriteTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testReadOnlyTransactionUsesReplica() {
+        var label = createLabel();
+
+        var found = readOnlyTransaction.execute(status -> labelRepository.findByName(label.getName()));
+
+        assertFalse(found.isPresent());
+    }
+
+    @Test
+    void testReadWriteTransactionUsesPrimary() {
+        var label = createLabel();
+
+        var found = readWriteTransaction.execute(status -> labelRepository.findByName(label.getName()));
+
+        assertTrue(found.isPresent());
+    }
+
+    @Test
+    void testRecentWriterReadsFromPrimary() {
+        authenticate("writer@example.com");
+        var label = createLabel();
+
+        var ownRead = readOnlyTransaction.execute(status -> labelRepository.findByName(label.getName()));
+        assertTrue(ownRead.isPresent());
+
+        authenticate("reader@example.com");
+        var otherRead = readOnlyTransaction.execute(status -> labelRepository.findByName(label.getName()));
+        assertFalse(otherRead.isPresent());
+    }
+
+    @Test
+    void testLaggingReplicaFallsBackToPrimary() {
+        new JdbcTemplate(replicaDataSource)
+                .update("UPDATE replica_snapshot SET taken_at = DATEADD('MINUTE', -1, taken_at)");
+        replicaRouter.checkLag();
+        var label = createLabel();
+
+        var found = readOnlyTransaction.execute(status -> labelRepository.findByName(label.getName()));
+
+        assertTrue(found.isPresent());
+    }
+
+    @Test
+    void testWriteAfterReplicaReadInRequestUsesPrimary() throws Exception {
+        var user = userRepository.save(Instancio.of(modelGenerator.getUserModel()).create());
+        h2ReplicaSnapshotter.snapshot();
+        entityManagerFactory.getCache().evict(User.class);
+        var replicaReads = replicaReads();
+
+        var data = new HashMap<String, String>();
+        data.put("firstName", "Primary");
+
+        var request = put("/api/users/" + user.getId())
+                .with(jwt().jwt(builder -> builder.subject(user.getEmail())))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(data));
+
+        mockMvc.perform(request)
+                .andExpect(status().isOk());
+        assertTrue(replicaReads() > replicaReads);
+
+        var firstName = new JdbcTemplate(primaryDataSource)
+                .queryForObject("SELECT first_name FROM users WHERE id = ?", String.class, user.getId());
+        assertEquals("Primary", firstName);
+    }
+
+    @Test
+    void testListWithETagReadsFromPrimary() throws Exception {
+        var label = createLabel();
+        collectionVersions.bump(CollectionVersions.LABELS);
+
+        var request = get("/api/labels")
+                .with(jwt().jwt(builder -> builder.subject("reader@example.com")));
+
+        var response = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", collectionVersions.eTag(CollectionVersions.LABELS)))
+                .andReturn()
+                .getResponse();
+
+        assertTrue(response.getContentAsString().contains(label.getName()));
+    }
+
+    private Label createLabel() {
+        return labelRepository.save(Instancio.of(modelGenerator.getLabelModel()).create());
+    }
+
+    private double replicaReads() {
+        return meterRegistry.get("datasource.routing.reads").tag("target", "replica").counter().count();
+    }
+
+    private static void authenticate(String name) {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(name, null, "ROLE_USER"));
+    }
+}
@@ -0,0 +1,143 @@
+package hexlet.code.controller.api;
+
+import hexlet.code.model.TaskStatus;
+import hexlet.code.repository.LabelRepository;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.TaskStatusRepository;
+import hexlet.code.repository.UserRepository;
+import hexlet.code.specification.TaskSearchEngine;
+import hexlet.code.specification.TrigramTaskSearchEngine;
+import hexlet.code.util.ModelGenerator;
+import hexlet.code.util.TrigramFunctions;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+    "task.search.engine=trigram",
+    "outbox.dispatcher.enabled=false"
+})
+@AutoConfigureMockMvc
+class TaskSearchControllerTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ModelGenerator modelGenerator;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+
+    @Autowired
+    private LabelRepository labelRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskSearchEngine taskSearchEngine;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private SecurityMockMvcRequestPostProcessors.JwtRequestPostProcessor token;
+    private TaskStatus testTaskStatus;
+
+    @BeforeEach
+    void setUp() {
+
+        taskRepository.deleteAll();
+        labelRepository.deleteAll();
+        taskStatusRepository.deleteAll();
+        userRepository.deleteAll();
+
+        mockMvc = MockMvcBuilders
+                .webAppContextSetup(context)
+                .apply(springSecurity())
+                .build();
+
+        token = jwt().jwt(builder -> builder.subject("hexlet@example.com"));
+
+        testTaskStatus = Instancio.of(modelGenerator.getTaskStatusModel()).create();
+        taskStatusRepository.save(testTaskStatus);
+
+        createTask("Write the release notes for the beta");
+        createTask("Beta");
+        createTask("Review beta feedback");
+        createTask("Unrelated chore");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP ALIAS IF EXISTS similarity");
+        ((TrigramTaskSearchEngine) taskSearchEngine).createIndex();
+    }
+
+    @Test
+    void testTrigramEngineIsSelected() {
+
+        assertInstanceOf(TrigramTaskSearchEngine.class, taskSearchEngine);
+    }
+
+    @Test
+    void testIndexOrdersMatchesByRelevance() throws Exception {
+
+        jdbcTemplate.execute("CREATE ALIAS IF NOT EXISTS similarity FOR \""
+                + TrigramFunctions.class.getName() + ".similarity\"");
+        var engine = (TrigramTaskSearchEngine) taskSearchEngine;
+        engine.createIndex();
+        assertTrue(engine.isAvailable());
+
+        mockMvc.perform(get("/api/tasks").param("titleCont", "beta").with(token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].title").value("Beta"))
+                .andExpect(jsonPath("$[1].title").value("Review beta feedback"))
+                .andExpect(jsonPath("$[2].title").value("Write the release notes for the beta"));
+    }
+
+    @Test
+    void testIndexFallsBackToLikeWithoutSimilarity() throws Exception {
+
+        assertFalse(((TrigramTaskSearchEngine) taskSearchEngine).isAvailable());
+
+        mockMvc.perform(get("/api/tasks").param("titleCont", "beta").with(token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].title").value("Write the release notes for the beta"))
+                .andExpect(jsonPath("$[1].title").value("Beta"))
+                .andExpect(jsonPath("$[2].title").value("Review beta feedback"));
+    }
+
+    private void createTask(String name) {
+        var task = Instancio.of(modelGenerator.getTaskModel()).create();
+        task.setName(name);
+        task.setTaskStatus(testTaskStatus);
+        taskRepository.save(task);
+    }
+}
@@ -0,0 +1,203 @@
+package hexlet.code.controller.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.component.TaskStatsCounters;
+import hexlet.code.dto.task.TaskChangedEvent;
+import hexlet.code.dto.task.TaskDTO;
+import hexlet.code.dto.task.TaskStatsDTO;
+import hexlet.code.mapper.TaskMapper;
+import hexlet.code.model.Label;
+import hexlet.code.model.TaskStatus;
+import hexlet.code.model.User;
+import hexlet.code.repository.LabelRepository;
+import hexlet.code.repository.TaskRepository;
+import hexlet.code.repository.TaskStatusRepository;
+import hexlet.code.repository.UserRepository;
+import hexlet.code.service.TaskStatsService;
+import hexlet.code.util.ModelGenerator;
+import org.instancio.Instancio;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.HashMap;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+    "task.stats.counters.enabled=true",
+    "task.stats.counters.resync-interval=1h",
+    "outbox.dispatcher.enabled=false"
+})
+@AutoConfigureMockMvc
+class TaskStatsCountersTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ModelGenerator modelGenerator;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskStatusRepository taskStatusRepository;
+
+    @Autowired
+    private LabelRepository labelRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskMapper taskMapper;
+
+    @Autowired
+    private TaskStatsCounters taskStatsCounters;
+
+    @MockitoSpyBean
+    private TaskStatsService taskStatsService;
+
+    private SecurityMockMvcRequestPostProcessors.JwtRequestPostProcessor token;
+    private User testUser;
+    private TaskStatus testTaskStatus;
+    private Label testLabel;
+
+    @BeforeEach
+    void setUp() {
+
+        taskRepository.deleteAll();
+        labelRepository.deleteAll();
+        taskStatusRepository.deleteAll();
+        userRepository.deleteAll();
+
+        mockMvc = MockMvcBuilders
+                .webAppContextSetup(context)
+                .apply(springSecurity())
+                .build();
+
+        token = jwt().jwt(builder -> builder.subject("hexlet@example.com"));
+
+        testUser = Instancio.of(modelGenerator.getUserModel()).create();
+        userRepository.save(testUser);
+
+        testTaskStatus = Instancio.of(modelGenerator.getTaskStatusModel()).create();
+        taskStatusRepository.save(testTaskStatus);
+
+        testLabel = Instancio.of(modelGenerator.getLabelModel()).create();
+        labelRepository.save(testLabel);
+
+        taskStatsCounters.resync();
+    }
+
+    @Test
+    void testCountersFollowTaskChanges() throws Exception {
+
+        var taskData = Instancio.of(modelGenerator.getTaskModel()).create();
+        taskData.setAssignee(testUser);
+        taskData.setTaskStatus(testTaskStatus);
+        taskData.addLabel(testLabel);
+
+        var createRequest = post("/api/tasks")
+                .with(token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(taskMapper.map(taskData)));
+
+        var created = mockMvc.perform(createRequest)
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse();
+        var taskId = objectMapper.readTree(created.getContentAsString()).get("id").asLong();
+
+        mockMvc.perform(get("/api/tasks/stats").with(jwt()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.byStatus['" + testTaskStatus.getSlug() + "']").value(1))
+                .andExpect(jsonPath("$.byAssignee['" + testUser.getId() + "']").value(1))
+                .andExpect(jsonPath("$.byLabel['" + testLabel.getId() + "']").value(1));
+
+        var data = new HashMap<String, Object>();
+        data.put("assignee_id", null);
+        data.put("taskLabelIds", Set.of());
+
+        var updateRequest = put("/api/tasks/" + taskId)
+                .with(token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(data));
+
+        mockMvc.perform(updateRequest)
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/tasks/stats").with(jwt()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.byAssignee['" + TaskStatsDTO.UNASSIGNED + "']").value(1))
+                .andExpect(jsonPath("$.byAssignee['" + testUser.getId() + "']").doesNotExist())
+                .andExpect(jsonPath("$.byLabel['" + testLabel.getId() + "']").doesNotExist());
+        assertStats(taskStatsService.query(), taskStatsCounters.snapshot());
+
+        mockMvc.perform(delete("/api/tasks/" + taskId).with(token))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/tasks/stats").with(jwt()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(0))
+                .andExpect(jsonPath("$.byStatus['" + testTaskStatus.getSlug() + "']").doesNotExist());
+    }
+
+    @Test
+    void testChangeDuringResyncIsKept() {
+
+        var task = new TaskDTO();
+        task.setId(Long.MAX_VALUE);
+        task.setStatus(testTaskStatus.getSlug());
+        task.setAssigneeId(testUser.getId());
+        task.setTaskLabelIds(Set.of(testLabel.getId()));
+
+        doAnswer(invocation -> {
+            var stats = invocation.callRealMethod();
+            taskStatsCounters.onTaskChanged(TaskChangedEvent.created(task));
+            return stats;
+        }).when(taskStatsService).query();
+
+        taskStatsCounters.resync();
+
+        var counters = taskStatsCounters.snapshot();
+        assertEquals(1, counters.getTotal());
+        assertEquals(1, counters.getByStatus().get(testTaskStatus.getSlug()));
+        assertEquals(1, counters.getByAssignee().get(testUser.getId().toString()));
+        assertEquals(1, counters.getByLabel().get(testLabel.getId().toString()));
+    }
+
+    private static void assertStats(TaskStatsDTO expected, TaskStatsDTO actual) {
+        assertEquals(expected.getTotal(), actual.getTotal());
+        assertEquals(expected.getByStatus(), actual.getByStatus());
+        assertEquals(expected.getByAssignee(), actual.getByAssignee());
+        assertEquals(expected.getByLabel(), actual.getByLabel());
+    }
+}
@@ -1,6 +1,7 @@
 package hexlet.code.controller.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.component.TaskStatusCache;
 import hexlet.code.dto.task_status.TaskStatusDTO;
 import hexlet.code.mapper.TaskStatusMapper;
 import hexlet.code.model.TaskStatus;
@@ -15,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
 import org.springframework.test.web.servlet.MockMvc;
@@ -27,6 +29,7 @@ import java.util.List;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
@@ -67,6 +70,12 @@ class TaskStatusesControllerTest {
     @Autowired
     private TaskStatusMapper taskStatusMapper;
 
+    @Autowired
+    private TaskStatusCache taskStatusCache;
+
+    @Autowired
+    private CacheManager cacheManager;
+
     private SecurityMockMvcRequestPostProcessors.JwtRequestPostProcessor token;
     private TaskStatus testTaskStatus;
 
@@ -163,6 +172,55 @@ class TaskStatusesControllerTest {
         assertEquals("someName", taskStatus.getName());
     }
 
+    @Test
+    void testUpdateEvictsCachedTaskStatus() throws Exception {
+
+        var oldSlug = testTaskStatus.getSlug();
+        assertTrue(taskStatusCache.findIdBySlug(oldSlug).isPresent());
+
+        var data = new HashMap<String, String>();
+        data.put("slug", "renamed_slug");
+
+        var request = put("/api/task_statuses/" + testTaskStatus.getId())
+                .with(token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(data));
+
+        mockMvc.perform(request)
+                .andExpect(status().isOk());
+
+        assertTrue(taskStatusCache.findIdBySlug(oldSlug).isEmpty());
+        assertEquals(testTaskStatus.getId(), taskStatusCache.findIdBySlug("renamed_slug").orElseThrow());
+    }
+
+    @Test
+    void testMissingSlugIsNotCached() {
+
+        var taskStatus = Instancio.of(modelGenerator.getTaskStatusModel()).create();
+        assertTrue(taskStatusCache.findIdBySlug(taskStatus.getSlug()).isEmpty());
+
+        taskStatusRepository.save(taskStatus);
+
+        assertEquals(taskStatus.getId(), taskStatusCache.findIdBySlug(taskStatus.getSlug()).orElseThrow());
+    }
+
+    @Test
+    void testCachesEndpointIsReadOnly() throws Exception {
+
+        taskStatusCache.findIdBySlug(testTaskStatus.getSlug());
+
+        mockMvc.perform(get("/actuator/caches").with(token))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/actuator/caches").with(token))
+                .andExpect(status().is4xxClientError());
+        mockMvc.perform(delete("/actuator/caches/" + TaskStatusCache.IDS_BY_SLUG).with(token))
+                .andExpect(status().is4xxClientError());
+
+        var cache = cacheManager.getCache(TaskStatusCache.IDS_BY_SLUG);
+        assertNotNull(cache);
+        assertNotNull(cache.get(testTaskStatus.getSlug()));
+    }
+
     @Test
     void testDestroyWithoutRelatedTask() throws Exception {
 
@@ -1,6 +1,8 @@
 package hexlet.code.controller.api;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.component.SqlCountResponseAdvice;
 import hexlet.code.dto.task.TaskDTO;
 import hexlet.code.mapper.TaskMapper;
 import hexlet.code.model.Label;
@@ -12,35 +14,49 @@ import hexlet.code.repository.TaskRepository;
 import hexlet.code.repository.TaskStatusRepository;
 import hexlet.code.repository.UserRepository;
 import hexlet.code.util.ModelGenerator;
+import hexlet.code.util.SqlStatementBudget;
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.transaction.Transactional;
+import org.hibernate.SessionFactory;
 import org.instancio.Instancio;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
-@SpringBootTest
+@SpringBootTest(properties = {
+    "outbox.dispatcher.enabled=false",
+    "collection-versions.refresh-interval=1h",
+    "sql.budget.expose-header=true"
+})
 @AutoConfigureMockMvc
 class TasksControllerTest {
 
@@ -71,6 +87,12 @@ class TasksControllerTest {
     @Autowired
     private TaskMapper taskMapper;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private SqlStatementBudget sqlStatementBudget;
+
     private SecurityMockMvcRequestPostProcessors.JwtRequestPostProcessor token;
     private User testUser;
     private TaskStatus testTaskStatus;
@@ -130,6 +152,42 @@ class TasksControllerTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    void testIndexStatementCountDoesNotDependOnSize() throws Exception {
+
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        try {
+            statistics.clear();
+            mockMvc.perform(get("/api/tasks").with(jwt()))
+                    .andExpect(status().isOk());
+            var statementsForOneTask = statistics.getPrepareStatementCount();
+
+            for (var i = 0; i < 20; i++) {
+                var label = Instancio.of(modelGenerator.getLabelModel()).create();
+                labelRepository.save(label);
+
+                var task = Instancio.of(modelGenerator.getTaskModel()).create();
+                task.setAssignee(testUser);
+                task.setTaskStatus(testTaskStatus);
+                task.addLabel(testLabel);
+                task.addLabel(label);
+                taskRepository.save(task);
+            }
+
+            statistics.clear();
+            mockMvc.perform(get("/api/tasks").with(jwt()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(21));
+            var statementsForManyTasks = statistics.getPrepareStatementCount();
+
+            assertEquals(statementsForOneTask, statementsForManyTasks);
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
     @Test
     void testIndexWithTitleCont() throws Exception {
 
@@ -237,6 +295,177 @@ class TasksControllerTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    void testIndexWithCursor() throws Exception {
+
+        for (var i = 0; i < 2; i++) {
+            var task = Instancio.of(modelGenerator.getTaskModel()).create();
+            task.setTaskStatus(testTaskStatus);
+            taskRepository.save(task);
+        }
+
+        var firstPage = get("/api/tasks?limit=2&withTotalCount=true").with(jwt());
+
+        var firstResult = mockMvc.perform(firstPage)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        var firstResponse = mockMvc.perform(asyncDispatch(firstResult))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+
+        assertEquals("3", firstResponse.getHeader("X-Total-Count"));
+
+        var firstBody = objectMapper.readTree(firstResponse.getContentAsString());
+        var cursor = firstBody.get("nextCursor").asText();
+
+        assertEquals(2, firstBody.get("data").size());
+        assertEquals(testTask.getId(), firstBody.get("data").get(0).get("id").asLong());
+
+        var secondPage = get("/api/tasks?limit=2&after=" + cursor).with(jwt());
+
+        var secondResult = mockMvc.perform(secondPage)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        var secondResponse = mockMvc.perform(asyncDispatch(secondResult))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+
+        var secondBody = objectMapper.readTree(secondResponse.getContentAsString());
+
+        assertEquals(1, secondBody.get("data").size());
+        assertNull(secondResponse.getHeader("X-Total-Count"));
+        assertTrue(secondBody.get("nextCursor").isNull());
+    }
+
+    @Test
+    void testIndexWithInvalidCursor() throws Exception {
+
+        var request = get("/api/tasks?limit=2&after=broken").with(jwt());
+
+        mockMvc.perform(request)
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testExport() throws Exception {
+
+        var other = Instancio.of(modelGenerator.getTaskModel()).create();
+        other.setTaskStatus(testTaskStatus);
+        taskRepository.save(other);
+
+        var ndjsonRequest = get("/api/tasks/export?assigneeId=" + testUser.getId()).with(jwt());
+
+        var ndjsonResult = mockMvc.perform(ndjsonRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        var ndjsonResponse = mockMvc.perform(asyncDispatch(ndjsonResult))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+
+        var lines = ndjsonResponse.getContentAsString().lines().toList();
+
+        assertEquals(1, lines.size());
+        assertEquals(objectMapper.writeValueAsString(taskMapper.map(testTask)), lines.get(0));
+
+        var csvRequest = get("/api/tasks/export?format=csv").with(jwt());
+
+        var csvResult = mockMvc.perform(csvRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        var csvResponse = mockMvc.perform(asyncDispatch(csvResult))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+
+        var rows = csvResponse.getContentAsString().lines().toList();
+
+        assertEquals(3, rows.size());
+        assertTrue(rows.get(0).startsWith("id,title"));
+        assertTrue(rows.get(1).startsWith(testTask.getId() + ","));
+        assertTrue(rows.get(1).endsWith("," + testLabel.getId()));
+    }
+
+    @Test
+    void testImportCsv() throws Exception {
+
+        var slug = testTaskStatus.getSlug();
+        var csv = "title,content,status,assigneeId,index,labelIds\n"
+                + "\"Imported, first\",\"multi\nline\"," + slug + ",,1,\n"
+                + "Broken,,unknown-status,,,\n"
+                + "Imported second,," + slug + "," + testUser.getId() + ",," + testLabel.getId() + "\n";
+
+        var importRequest = post("/api/tasks/import?format=csv").with(jwt())
+                .contentType("text/csv")
+                .content(csv);
+
+        var result = mockMvc.perform(importRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        var response = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+
+        var lines = new ArrayList<JsonNode>();
+        for (var line : response.getContentAsString().lines().toList()) {
+            lines.add(objectMapper.readTree(line));
+        }
+
+        assertEquals(2, lines.get(0).get("row").asLong());
+        assertTrue(lines.get(0).get("error").asText().contains("unknown-status"));
+        assertEquals(3, lines.get(lines.size() - 1).get("processed").asLong());
+        assertEquals(2, lines.get(lines.size() - 1).get("imported").asLong());
+        assertEquals(1, lines.get(lines.size() - 1).get("failed").asLong());
+        assertTrue(lines.get(lines.size() - 1).get("done").asBoolean());
+
+        var tasks = taskRepository.findAll(Sort.by("id"));
+        assertEquals(3, tasks.size());
+        assertEquals("Imported, first", tasks.get(1).getName());
+        assertEquals("multi\nline", tasks.get(1).getDescription());
+        assertEquals(testUser.getId(), tasks.get(2).getAssignee().getId());
+    }
+
+    @Test
+    void testStats() throws Exception {
+
+        mockMvc.perform(get("/api/tasks/stats").with(jwt()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.byStatus['" + testTaskStatus.getSlug() + "']").value(1))
+                .andExpect(jsonPath("$.byAssignee['" + testUser.getId() + "']").value(1))
+                .andExpect(jsonPath("$.byLabel['" + testLabel.getId() + "']").value(1));
+    }
+
+    @Test
+    void testIndexWithinSqlBudget() throws Exception {
+
+        for (var i = 0; i < 5; i++) {
+            var task = Instancio.of(modelGenerator.getTaskModel()).create();
+            task.setAssignee(testUser);
+            task.setTaskStatus(testTaskStatus);
+            task.addLabel(testLabel);
+            taskRepository.save(task);
+        }
+
+        var request = get("/api/tasks").with(jwt());
+
+        var response = sqlStatementBudget.assertAtMost(3, () -> mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse());
+
+        assertEquals(6, objectMapper.readTree(response.getContentAsString()).size());
+        assertNotNull(response.getHeader(SqlCountResponseAdvice.HEADER));
+    }
+
     @Test
     void testShow() throws Exception {
 
@@ -312,6 +541,57 @@ class TasksControllerTest {
         assertEquals(taskData.getDescription(), task.getDescription());
     }
 
+    @Test
+    void testCreateWithUnknownLabel() throws Exception {
+
+        var data = new HashMap<String, Object>();
+        data.put("title", "someName");
+        data.put("status", testTaskStatus.getSlug());
+        data.put("taskLabelIds", List.of(testLabel.getId(), testLabel.getId() + 1000));
+
+        var request = post("/api/tasks")
+                .with(token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(data));
+
+        mockMvc.perform(request)
+                .andExpect(status().isBadRequest());
+
+        assertEquals(1, taskRepository.count());
+    }
+
+    @Test
+    void testLabelResolutionIssuesSingleQuery() {
+
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        try {
+            for (var labelCount : List.of(1, 20)) {
+                var labelIds = new HashSet<Long>();
+                for (var i = 0; i < labelCount; i++) {
+                    var label = Instancio.of(modelGenerator.getLabelModel()).create();
+                    labelRepository.save(label);
+                    labelIds.add(label.getId());
+                }
+                entityManagerFactory.getCache().evict(Label.class);
+
+                statistics.clear();
+                var labels = taskMapper.toEntity(labelIds);
+
+                assertEquals(labelCount, labels.size());
+                assertEquals(1, statistics.getPrepareStatementCount());
+
+                statistics.clear();
+                taskMapper.toEntity(labelIds);
+
+                assertEquals(0, statistics.getPrepareStatementCount());
+            }
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
     @Test
     void testUpdate() throws Exception {
 
@@ -332,6 +612,63 @@ class TasksControllerTest {
         assertEquals("someName", task.getName());
     }
 
+    @Test
+    void testCreateBatch() throws Exception {
+
+        var validTask = new HashMap<String, Object>();
+        validTask.put("title", "first");
+        validTask.put("status", testTaskStatus.getSlug());
+        validTask.put("taskLabelIds", List.of(testLabel.getId()));
+        validTask.put("assignee_id", testUser.getId());
+
+        var unknownStatusTask = new HashMap<String, Object>();
+        unknownStatusTask.put("title", "second");
+        unknownStatusTask.put("status", "unknown_status");
+
+        var blankTitleTask = new HashMap<String, Object>();
+        blankTitleTask.put("title", "");
+        blankTitleTask.put("status", testTaskStatus.getSlug());
+
+        var request = post("/api/tasks/batch")
+                .with(token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(validTask, unknownStatusTask, blankTitleTask)));
+
+        mockMvc.perform(request)
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].status").value("CREATED"))
+                .andExpect(jsonPath("$[1].status").value("FAILED"))
+                .andExpect(jsonPath("$[2].status").value("FAILED"));
+
+        assertEquals(2, taskRepository.count());
+    }
+
+    @Test
+    void testUpdateBatch() throws Exception {
+
+        var existingTask = new HashMap<String, Object>();
+        existingTask.put("id", testTask.getId());
+        existingTask.put("title", "renamed");
+
+        var missingTask = new HashMap<String, Object>();
+        missingTask.put("id", testTask.getId() + 1000);
+        missingTask.put("title", "missing");
+
+        var request = patch("/api/tasks/batch")
+                .with(token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(existingTask, missingTask)));
+
+        mockMvc.perform(request)
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$[0].status").value("UPDATED"))
+                .andExpect(jsonPath("$[1].status").value("FAILED"));
+
+        var task = taskRepository.findById(testTask.getId()).orElseThrow();
+        assertEquals("renamed", task.getName());
+    }
+
     @Test
     void testDestroyTask() throws Exception {
 
@@ -348,6 +685,82 @@ class TasksControllerTest {
         assertNull(task);
     }
 
+    @Test
+    void testEventsStreamDeliversMatchingChanges() throws Exception {
+
+        var events = mockMvc.perform(get("/api/tasks/events")
+                        .with(token)
+                        .param("statusSlug", testTaskStatus.getSlug()))
+                .andExpect(request().asyncStarted())
+                .andReturn()
+                .getResponse();
+
+        mockMvc.perform(delete("/api/tasks/" + testTask.getId()).with(token))
+                .andExpect(status().isNoContent());
+
+        var deadline = System.currentTimeMillis() + 5_000;
+        while (!events.getContentAsString().contains("DELETED") && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+
+        var content = events.getContentAsString();
+        assertTrue(content.contains("event:task"));
+        assertTrue(content.contains("\"taskId\":" + testTask.getId()));
+    }
+
+    @Test
+    void testEventsStreamResetsUnknownLastEventId() throws Exception {
+
+        var events = mockMvc.perform(get("/api/tasks/events")
+                        .with(token)
+                        .header("Last-Event-ID", Long.MAX_VALUE - 1))
+                .andExpect(request().asyncStarted())
+                .andReturn()
+                .getResponse();
+
+        var deadline = System.currentTimeMillis() + 5_000;
+        while (!events.getContentAsString().contains("event:reset") && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+
+        assertTrue(events.getContentAsString().contains("event:reset"));
+    }
+
+    @Test
+    void testDeleteGuardDoesNotLoadReferencingTasks() throws Exception {
+
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        try {
+            statistics.clear();
+            mockMvc.perform(delete("/api/labels/" + testLabel.getId()).with(token))
+                    .andExpect(status().isForbidden());
+            var statementsForOneTask = statistics.getPrepareStatementCount();
+
+            for (var i = 0; i < 20; i++) {
+                var task = Instancio.of(modelGenerator.getTaskModel()).create();
+                task.setTaskStatus(testTaskStatus);
+                task.addLabel(testLabel);
+                taskRepository.save(task);
+            }
+
+            statistics.clear();
+            var message = mockMvc.perform(delete("/api/labels/" + testLabel.getId()).with(token))
+                    .andExpect(status().isForbidden())
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString();
+
+            assertEquals(statementsForOneTask, statistics.getPrepareStatementCount());
+            assertEquals(0, statistics.getEntityStatistics(Task.class.getName()).getLoadCount());
+            assertTrue(message.contains(String.valueOf(testTask.getId())));
+            assertTrue(message.endsWith("and more"));
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
     @Test
     void testDestroyUserAssociatedWithTask() throws Exception {
 
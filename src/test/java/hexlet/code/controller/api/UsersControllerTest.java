@@ -1,6 +1,7 @@
 package hexlet.code.controller.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import hexlet.code.component.UserPrincipalCache;
 import hexlet.code.repository.LabelRepository;
 import hexlet.code.repository.TaskRepository;
 import hexlet.code.repository.TaskStatusRepository;
@@ -68,6 +69,9 @@ class UsersControllerTest {
     @Autowired
     private UserMapper userMapper;
 
+    @Autowired
+    private UserPrincipalCache userPrincipalCache;
+
     private JwtRequestPostProcessor token;
     private User testUser;
 
@@ -167,6 +171,33 @@ class UsersControllerTest {
         assertEquals("someOtherName", user.getFirstName());
     }
 
+    @Test
+    void testUpdateEmailRefreshesPrincipalCache() throws Exception {
+
+        assertEquals(testUser.getEmail(), userPrincipalCache.findEmailById(testUser.getId()).orElseThrow());
+
+        var data = new HashMap<String, String>();
+        data.put("email", "renamed@example.com");
+
+        var request = put("/api/users/" + testUser.getId())
+                .with(token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(data));
+
+        mockMvc.perform(request)
+                .andExpect(status().isOk());
+
+        assertEquals("renamed@example.com", userPrincipalCache.findEmailById(testUser.getId()).orElseThrow());
+
+        var staleTokenRequest = put("/api/users/" + testUser.getId())
+                .with(token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(data));
+
+        mockMvc.perform(staleTokenRequest)
+                .andExpect(status().isForbidden());
+    }
+
     @Test
     void testUpdateWithAnotherUser() throws Exception {
 
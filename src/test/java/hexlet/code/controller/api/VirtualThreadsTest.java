@@ -0,0 +1,77 @@
+package hexlet.code.controller.api;
+
+import hexlet.code.component.VirtualThreadPinningMonitor;
+import hexlet.code.service.LabelService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.doThrow;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+    "spring.threads.virtual.enabled=true",
+    "diagnostics.virtual-threads.pinned-threshold=20ms",
+    "outbox.dispatcher.enabled=false"
+})
+@AutoConfigureMockMvc
+class VirtualThreadsTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private VirtualThreadPinningMonitor virtualThreadPinningMonitor;
+
+    @MockitoSpyBean
+    private LabelService labelService;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders
+                .webAppContextSetup(context)
+                .apply(springSecurity())
+                .build();
+    }
+
+    @Test
+    void testPinningEndpoint() throws Exception {
+
+        assertNotNull(virtualThreadPinningMonitor);
+
+        mockMvc.perform(get("/actuator/virtualthreads").with(jwt()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.threshold").value("PT0.02S"))
+                .andExpect(jsonPath("$.pinnedEvents").isNumber())
+                .andExpect(jsonPath("$.totalPinnedMillis").isNumber())
+                .andExpect(jsonPath("$.maxPinnedMillis").isNumber())
+                .andExpect(jsonPath("$.topStacks").isMap());
+    }
+
+    @Test
+    void testExhaustedConnectionPoolReturns503() throws Exception {
+
+        doThrow(new CannotCreateTransactionException("Could not open JPA EntityManager for transaction"))
+                .when(labelService).getAll();
+
+        mockMvc.perform(get("/api/labels").with(jwt()))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(content().string("Database is busy, try again later"));
+    }
+}
@@ -47,6 +47,7 @@ public class ModelGenerator {
                 .supply(Select.field(TaskStatus::getName), () -> faker.text().text(10))
                 .supply(Select.field(TaskStatus::getSlug), () -> faker.internet().slug())
                 .ignore(Select.field(TaskStatus::getCreatedAt))
+                .ignore(Select.field(TaskStatus::getUpdatedAt))
                 .toModel();
 
         taskModel = Instancio.of(Task.class)
@@ -57,6 +58,7 @@ public class ModelGenerator {
                 .ignore(Select.field(Task::getTaskStatus))
                 .ignore(Select.field(Task::getAssignee))
                 .ignore(Select.field(Task::getCreatedAt))
+                .ignore(Select.field(Task::getUpdatedAt))
                 .ignore(Select.field(Task::getLabels))
                 .toModel();
 
@@ -64,6 +66,7 @@ public class ModelGenerator {
                 .ignore(Select.field(Label::getId))
                 .supply(Select.field(Label::getName), () -> faker.text().text(10))
                 .ignore(Select.field(Label::getCreatedAt))
+                .ignore(Select.field(Label::getUpdatedAt))
                 .toModel();
     }
 }
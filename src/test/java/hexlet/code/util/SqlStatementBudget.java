@@ -0,0 +1,40 @@
+package hexlet.code.util;
+
+import hexlet.code.component.SqlStatementCounter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Component
+public class SqlStatementBudget {
+
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    public long count(Callable<?> action) throws Exception {
+        var stats = sqlStatementCounter.start();
+        try {
+            action.call();
+        } finally {
+            sqlStatementCounter.stop(stats);
+        }
+        return stats.getCount();
+    }
+
+    public <T> T assertAtMost(long maxStatements, Callable<T> action) throws Exception {
+        var stats = sqlStatementCounter.start();
+        T result;
+        try {
+            result = action.call();
+        } finally {
+            sqlStatementCounter.stop(stats);
+        }
+        var count = stats.getCount();
+        assertTrue(count <= maxStatements,
+                () -> "Expected at most " + maxStatements + " SQL statements but " + count + " were executed");
+        return result;
+    }
+}
@@ -0,0 +1,14 @@
+package hexlet.code.util;
+
+public final class TrigramFunctions {
+
+    private TrigramFunctions() {
+    }
+
+    public static double similarity(String text, String term) {
+        if (text == null || term == null || text.isEmpty() || !text.contains(term)) {
+            return 0;
+        }
+        return (double) term.length() / text.length();
+    }
+}